@@ -0,0 +1,59 @@
+package org.example.expert.client;
+
+import java.time.Clock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 연속 실패가 임계치를 넘으면 외부 호출을 차단하고, 차단 시간이 지나면
+ * 한 요청만 반열림(HALF_OPEN) 상태로 통과시켜 복구 여부를 확인하는 서킷 브레이커.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final Clock clock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public CircuitBreaker(int failureThreshold, long openDurationMs, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.clock = clock;
+    }
+
+    public boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && clock.millis() - openedAt >= openDurationMs) {
+            // 여러 요청이 동시에 와도 상태를 바꾼 한 요청만 시험 호출을 함
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        state.set(State.CLOSED);
+    }
+
+    public void onFailure() {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = clock.millis();
+            consecutiveFailures.set(0);
+            state.set(State.OPEN);
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+}
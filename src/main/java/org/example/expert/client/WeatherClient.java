@@ -1,30 +1,384 @@
 package org.example.expert.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.config.exception.custom.ServerException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.time.MonthDay;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
+@Slf4j
 @Component
 public class WeatherClient {
 
+    private static final long FAILURE_RETRY_INTERVAL_MS = 60 * 1000L; // 갱신 실패 후 재시도 간격 1분
+
     private final RestTemplate restTemplate;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final URI weatherApiUri;
+    private final Duration readTimeout;
+    private final CircuitBreaker circuitBreaker;
+    // 갱신을 기다리며 묶일 수 있는 요청 스레드 수를 제한
+    private final Semaphore bulkhead;
+    private final long maxWaitMs;
+    private final String fallbackWeather;
+
+    // 테이블이 오래되었을 때 한 요청만 외부 API를 호출하고 나머지는 그 결과를 기다림
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicReference<CompletableFuture<WeatherTable>> inFlightRefresh = new AtomicReference<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    // 갱신하지 못해 오늘이 아닌 날 받은 테이블로 응답한 수, hit/miss 비율에는 넣지 않음
+    private final LongAdder staleCount = new LongAdder();
+    private final Counter fallbackCounter;
+    private final Counter bulkheadRejectedCounter;
+
+    // 테이블 전체를 한 번에 교체하므로 읽는 쪽은 항상 완성된 테이블만 봄
+    private volatile WeatherTable weatherTable;
+    private volatile long nextRetryAt;
+
+    @Autowired
+    public WeatherClient(
+            RestTemplateBuilder builder,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${weather.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${weather.read-timeout-ms:2000}") long readTimeoutMs,
+            @Value("${weather.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${weather.circuit-breaker.open-duration-ms:30000}") long openDurationMs,
+            @Value("${weather.bulkhead.max-concurrent:10}") int maxConcurrent,
+            @Value("${weather.bulkhead.max-wait-ms:500}") long maxWaitMs,
+            @Value("${weather.fallback:Unknown}") String fallbackWeather
+    ) {
+        this(buildHttpClient(connectTimeoutMs),
+                builder,
+                objectMapper,
+                meterRegistry,
+                Duration.ofMillis(readTimeoutMs),
+                new CircuitBreaker(failureThreshold, openDurationMs, Clock.systemDefaultZone()),
+                buildWeatherApiUri(baseUrl),
+                maxConcurrent,
+                maxWaitMs,
+                fallbackWeather);
+    }
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    // 블로킹 호출도 같은 HttpClient의 커넥션 풀을 쓰도록 RestTemplate을 그 위에 만듦
+    private WeatherClient(
+            HttpClient httpClient,
+            RestTemplateBuilder builder,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            Duration readTimeout,
+            CircuitBreaker circuitBreaker,
+            URI weatherApiUri,
+            int maxConcurrent,
+            long maxWaitMs,
+            String fallbackWeather
+    ) {
+        this(builder.requestFactory(() -> buildRequestFactory(httpClient, readTimeout)).build(),
+                httpClient,
+                objectMapper,
+                meterRegistry,
+                Clock.systemDefaultZone(),
+                circuitBreaker,
+                weatherApiUri,
+                readTimeout,
+                maxConcurrent,
+                maxWaitMs,
+                fallbackWeather);
+    }
+
+    WeatherClient(
+            RestTemplate restTemplate,
+            HttpClient httpClient,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            CircuitBreaker circuitBreaker,
+            URI weatherApiUri,
+            Duration readTimeout,
+            int maxConcurrent,
+            long maxWaitMs,
+            String fallbackWeather
+    ) {
+        this.restTemplate = restTemplate;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.circuitBreaker = circuitBreaker;
+        this.weatherApiUri = weatherApiUri;
+        this.readTimeout = readTimeout;
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.maxWaitMs = maxWaitMs;
+        this.fallbackWeather = fallbackWeather;
+
+        FunctionCounter.builder("weather.cache.requests", hitCount, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("weather.cache.requests", missCount, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("weather.cache.requests", staleCount, LongAdder::sum)
+                .tag("result", "stale")
+                .register(meterRegistry);
+        // 0: CLOSED, 1: OPEN, 2: HALF_OPEN
+        Gauge.builder("weather.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .register(meterRegistry);
+        this.fallbackCounter = meterRegistry.counter("weather.fallback");
+        this.bulkheadRejectedCounter = meterRegistry.counter("weather.bulkhead.rejected");
     }
 
     public String getTodayWeather() {
+        return getWeather(LocalDate.now(clock));
+    }
+
+    /**
+     * 요청 스레드를 막지 않고 커넥션 풀을 공유하는 논블로킹 HTTP 클라이언트로 테이블을 갱신한다.
+     * 호출하는 쪽은 날씨 조회가 진행되는 동안 다른 작업을 먼저 처리할 수 있다.
+     * 갱신이 bulkhead 대기 시간(max-wait-ms)보다 늦어지면 가지고 있는 테이블이나 대체 값으로 응답하고, 갱신은 뒤에서 계속된다.
+     */
+    public CompletableFuture<String> getTodayWeatherAsync() {
+        LocalDate today = LocalDate.now(clock);
+
+        WeatherTable table = weatherTable;
+        if (isFresh(table, today)) {
+            hitCount.increment();
+            return CompletableFuture.completedFuture(lookup(table, today));
+        }
+
+        // 여러 요청이 함께 기다리는 갱신 결과 자체에 타임아웃을 걸지 않도록 복사본에 검
+        return refreshAsync(table).copy()
+                .completeOnTimeout(table, maxWaitMs, TimeUnit.MILLISECONDS)
+                .thenApply(refreshed -> countRefreshed(refreshed, table))
+                .thenApply(refreshed -> refreshed == null ? fallback() : lookup(refreshed, today));
+    }
+
+    // 소급 입력이나 일괄 등록처럼 오늘이 아닌 날짜의 날씨도 같은 테이블에서 조회
+    public String getWeather(LocalDate date) {
+        return findWeather(date).orElseGet(this::fallback);
+    }
+
+    public Optional<String> findTodayWeather() {
+        return findWeather(LocalDate.now(clock));
+    }
+
+    // 외부 API 장애로 테이블을 한 번도 받지 못했다면 빈 값을 반환
+    public Optional<String> findWeather(LocalDate date) {
+        WeatherTable table = currentTable();
+        if (table == null) {
+            return Optional.empty();
+        }
+        return Optional.of(lookup(table, date));
+    }
+
+    // 스케줄러가 하루 한 번 테이블을 새로 받아 교체함, 실패하면 기존 테이블을 유지
+    @Scheduled(cron = "${weather.refresh-cron:0 0 0 * * *}")
+    public void refreshTable() {
+        refreshLock.lock();
+        try {
+            refresh(weatherTable);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getStaleCount() {
+        return staleCount.sum();
+    }
+
+    private WeatherTable currentTable() {
+        LocalDate today = LocalDate.now(clock);
+
+        WeatherTable table = weatherTable;
+        if (isFresh(table, today)) {
+            hitCount.increment();
+            return table;
+        }
+
+        // 갱신 대기 자리가 없으면 기다리지 않고 가지고 있는 테이블로 응답
+        if (!bulkhead.tryAcquire()) {
+            bulkheadRejectedCounter.increment();
+            return countServed(table, today);
+        }
+        try {
+            if (!refreshLock.tryLock(maxWaitMs, TimeUnit.MILLISECONDS)) {
+                return countServed(weatherTable, today);
+            }
+            try {
+                // 락을 기다리는 동안 다른 요청이 이미 갱신했을 수 있음
+                table = weatherTable;
+                if (isFresh(table, today)) {
+                    hitCount.increment();
+                    return table;
+                }
+
+                // 직전 갱신이 실패했다면 재시도 간격 동안은 마지막으로 성공한 테이블을 사용
+                if (table != null && clock.millis() < nextRetryAt) {
+                    staleCount.increment();
+                    return table;
+                }
+                return countRefreshed(refresh(table), table);
+            } finally {
+                refreshLock.unlock();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return countServed(weatherTable, today);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    // refreshLock을 잡은 상태에서만 호출
+    private WeatherTable refresh(WeatherTable current) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return current;
+        }
+        try {
+            WeatherTable refreshed = fetchWeatherTable();
+            circuitBreaker.onSuccess();
+            weatherTable = refreshed;
+            return refreshed;
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            nextRetryAt = clock.millis() + FAILURE_RETRY_INTERVAL_MS;
+            log.warn("날씨 데이터 갱신 실패, 기존 테이블({})을 사용합니다.",
+                    current == null ? null : current.getLoadedOn(), e);
+            return current;
+        } catch (Error e) {
+            // 결과를 기록하지 않으면 시험 호출(HALF_OPEN) 중이던 서킷이 다시는 열리거나 닫히지 않음
+            circuitBreaker.onFailure();
+            throw e;
+        }
+    }
+
+    // 진행 중인 비동기 갱신이 있으면 그 결과를 함께 기다림, 반환하는 future는 예외로 끝나지 않음
+    private CompletableFuture<WeatherTable> refreshAsync(WeatherTable current) {
+        // 직전 갱신이 실패했다면 재시도 간격 동안은 마지막으로 성공한 테이블을 사용
+        if (current != null && clock.millis() < nextRetryAt) {
+            return CompletableFuture.completedFuture(current);
+        }
+
+        CompletableFuture<WeatherTable> promise = new CompletableFuture<>();
+        if (!inFlightRefresh.compareAndSet(null, promise)) {
+            CompletableFuture<WeatherTable> inFlight = inFlightRefresh.get();
+            return inFlight != null ? inFlight : CompletableFuture.completedFuture(weatherTable);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            inFlightRefresh.set(null);
+            promise.complete(current);
+            return promise;
+        }
+
+        CompletableFuture<WeatherTable> fetch;
+        try {
+            fetch = fetchWeatherTableAsync();
+        } catch (Throwable e) {
+            // 요청을 보내기 전에 던져도 아래에서 실패로 기록하고 진행 중 표시를 지움
+            fetch = CompletableFuture.failedFuture(e);
+        }
+        fetch.whenComplete((refreshed, e) -> {
+            if (e == null) {
+                circuitBreaker.onSuccess();
+                weatherTable = refreshed;
+            } else {
+                circuitBreaker.onFailure();
+                nextRetryAt = clock.millis() + FAILURE_RETRY_INTERVAL_MS;
+                log.warn("날씨 데이터 비동기 갱신 실패, 기존 테이블({})을 사용합니다.",
+                        current == null ? null : current.getLoadedOn(), e);
+            }
+            inFlightRefresh.set(null);
+            promise.complete(e == null ? refreshed : current);
+        });
+        return promise;
+    }
+
+    // 갱신을 기다리지 않고 가지고 있는 테이블로 응답할 때, 그 사이 다른 요청이 갱신했다면 hit
+    private WeatherTable countServed(WeatherTable table, LocalDate today) {
+        if (isFresh(table, today)) {
+            hitCount.increment();
+        } else if (table != null) {
+            staleCount.increment();
+        }
+        return table;
+    }
+
+    // 갱신을 시도한 뒤: 새 테이블을 받았거나 받을 테이블이 없었으면 miss, 실패해서 이전 테이블로 응답하면 stale
+    private WeatherTable countRefreshed(WeatherTable refreshed, WeatherTable previous) {
+        if (refreshed != null && refreshed == previous) {
+            staleCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return refreshed;
+    }
+
+    private String lookup(WeatherTable table, LocalDate date) {
+        String weather = table.get(MonthDay.from(date));
+        if (weather == null) {
+            throw new ServerException("해당 날짜의 날씨 데이터를 찾을 수 없습니다.");
+        }
+        return weather;
+    }
+
+    private String fallback() {
+        fallbackCounter.increment();
+        return fallbackWeather;
+    }
+
+    private boolean isFresh(WeatherTable table, LocalDate today) {
+        return table != null && table.getLoadedOn().equals(today);
+    }
+
+    WeatherTable fetchWeatherTable() {
         ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+                restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
 
         WeatherDto[] weatherArray = responseEntity.getBody();
         if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
@@ -34,28 +388,57 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
+        return WeatherTable.from(weatherArray, LocalDate.now(clock));
+    }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
-            }
+    CompletableFuture<WeatherTable> fetchWeatherTableAsync() {
+        HttpRequest request = HttpRequest.newBuilder(weatherApiUri)
+                .timeout(readTimeout)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .GET()
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    if (response.statusCode() != HttpStatus.OK.value()) {
+                        throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.statusCode());
+                    }
+                    WeatherDto[] weatherArray = readWeatherFeed(response.body());
+                    if (weatherArray == null || weatherArray.length == 0) {
+                        throw new ServerException("날씨 데이터가 없습니다.");
+                    }
+                    return WeatherTable.from(weatherArray, LocalDate.now(clock));
+                });
+    }
+
+    private WeatherDto[] readWeatherFeed(byte[] body) {
+        try {
+            return objectMapper.readValue(body, WeatherDto[].class);
+        } catch (IOException e) {
+            throw new ServerException("날씨 데이터를 읽을 수 없습니다.");
         }
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    // JDK HttpClient는 호스트별 커넥션을 풀에 두고 keep-alive로 재사용함
+    private static HttpClient buildHttpClient(long connectTimeoutMs) {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
     }
 
-    private URI buildWeatherApiUri() {
+    private static JdkClientHttpRequestFactory buildRequestFactory(HttpClient httpClient, Duration readTimeout) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
+    }
+
+    private static URI buildWeatherApiUri(String baseUrl) {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
-
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
-    }
 }
@@ -0,0 +1,52 @@
+package org.example.expert.client;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.dto.WeatherDto;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 날씨 피드를 한 번 파싱해 1년치(윤년 기준 366칸)를 날짜 인덱스로 담아둔 불변 테이블.
+ * 조회는 배열 인덱싱 한 번이므로 요청마다 피드를 선형 탐색하지 않는다.
+ */
+@Slf4j
+public final class WeatherTable {
+
+    private static final int DAYS_IN_LEAP_YEAR = 366;
+    private static final int LEAP_YEAR = 2000;
+    private static final DateTimeFormatter FEED_DATE_FORMAT = DateTimeFormatter.ofPattern("MM-dd");
+
+    private final String[] weatherByDay;
+    @Getter
+    private final LocalDate loadedOn;
+
+    private WeatherTable(String[] weatherByDay, LocalDate loadedOn) {
+        this.weatherByDay = weatherByDay;
+        this.loadedOn = loadedOn;
+    }
+
+    public static WeatherTable from(WeatherDto[] feed, LocalDate loadedOn) {
+        String[] weatherByDay = new String[DAYS_IN_LEAP_YEAR];
+        for (WeatherDto weatherDto : feed) {
+            try {
+                MonthDay day = MonthDay.parse(weatherDto.getDate(), FEED_DATE_FORMAT);
+                weatherByDay[indexOf(day)] = weatherDto.getWeather();
+            } catch (DateTimeParseException | NullPointerException e) {
+                log.warn("잘못된 날씨 데이터 날짜를 건너뜁니다: {}", weatherDto.getDate());
+            }
+        }
+        return new WeatherTable(weatherByDay, loadedOn);
+    }
+
+    public String get(MonthDay day) {
+        return weatherByDay[indexOf(day)];
+    }
+
+    private static int indexOf(MonthDay day) {
+        return day.atYear(LEAP_YEAR).getDayOfYear() - 1;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.expert.config.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 응답 DTO 캐시(Spring Cache + Caffeine).
+ * 트랜잭션 안에서 요청한 삭제는 커밋 이후에 반영되므로, 롤백된 변경 때문에 캐시가 비거나
+ * 커밋 전에 다른 요청이 이전 값을 다시 채우는 일이 줄어든다.
+ * 캐시 어드바이스를 트랜잭션 바깥에 두어 캐시 적중 시에는 트랜잭션과 커넥션을 잡지 않는다.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String TODO_RESPONSES = "todoResponses";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${cache.todo-responses.maximum-size:10000}") long todoResponsesMaximumSize,
+            @Value("${cache.todo-responses.ttl-seconds:60}") long todoResponsesTtlSeconds
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(TODO_RESPONSES, Caffeine.newBuilder()
+                .maximumSize(todoResponsesMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(todoResponsesTtlSeconds))
+                .recordStats()
+                .build());
+        // 등록한 캐시만 사용 (이름 오타로 설정 없는 캐시가 생기지 않도록)
+        cacheManager.setCacheNames(List.of());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,327 @@
+package org.example.expert.config.config;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * 우리 서비스가 쓰는 고정 claims(sub, email, userRole, exp, iat, iatMs)만 다루는 HS256 JWT 인코더/디코더.
+ * iat는 표준대로 초 단위 정수로 두고, 사용자 단위 폐기를 밀리초까지 가리도록 발급 시각을 비공개 claim iatMs에 한 번 더 넣는다.
+ * jjwt와 같은 바이트열의 토큰을 만들고 jjwt가 만든 토큰(iatMs 없음)도 그대로 검증한다.
+ * 요청마다 파서와 Jackson 맵을 만들지 않도록 Mac은 스레드별로 재사용하고 claims는 직접 읽는다.
+ * 검증 실패 시에는 JwtFilter의 응답이 바뀌지 않도록 jjwt와 같은 예외를 던진다.
+ */
+public class Hs256JwtCodec {
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    // jjwt 0.11의 HS256 헤더와 같은 값
+    private static final String ENCODED_HEADER = base64Url("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> macs;
+
+    public Hs256JwtCodec(byte[] secret) {
+        SecretKeySpec keySpec = new SecretKeySpec(secret, MAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(MAC_ALGORITHM);
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HS256 Mac을 초기화할 수 없습니다.", e);
+            }
+        });
+    }
+
+    // issuedAt, expiresAt은 epoch millis, exp와 iat에는 jjwt와 같이 초 단위로 들어감
+    public String encode(Long userId, String email, UserRole userRole, long issuedAt, long expiresAt) {
+        StringBuilder payload = new StringBuilder(128)
+                .append("{\"sub\":");
+        appendString(payload, String.valueOf(userId));
+        payload.append(",\"email\":");
+        appendString(payload, email);
+        payload.append(",\"userRole\":");
+        appendString(payload, userRole.name());
+        payload.append(",\"exp\":").append(expiresAt / 1000)
+                .append(",\"iat\":").append(issuedAt / 1000)
+                .append(",\"iatMs\":").append(issuedAt)
+                .append('}');
+
+        String signingInput = ENCODED_HEADER + '.' + ENCODER.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+        return signingInput + '.' + ENCODER.encodeToString(sign(signingInput));
+    }
+
+    public VerifiedToken decode(String token, long now) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            throw new MalformedJwtException("JWT는 세 부분으로 구성되어야 합니다.");
+        }
+        if (secondDot == token.length() - 1) {
+            throw new UnsupportedJwtException("서명되지 않은 JWT는 지원하지 않습니다.");
+        }
+
+        String header = decodeJson(token.substring(0, firstDot));
+        if (!"HS256".equals(new FlatJsonReader(header).readObject().alg)) {
+            throw new UnsupportedJwtException("HS256 이외의 알고리즘은 지원하지 않습니다.");
+        }
+
+        byte[] expected = sign(token.substring(0, secondDot));
+        byte[] actual = decodeBase64(token.substring(secondDot + 1));
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw new SignatureException("JWT 서명이 일치하지 않습니다.");
+        }
+
+        ParsedClaims claims = new FlatJsonReader(decodeJson(token.substring(firstDot + 1, secondDot))).readObject();
+        if (claims.sub == null || claims.exp == null) {
+            throw new MalformedJwtException("JWT에 필수 claims가 없습니다.");
+        }
+        long expiresAt = claims.exp * 1000;
+        if (now > expiresAt) {
+            throw new ExpiredJwtException(null, null, "만료된 JWT 토큰입니다.");
+        }
+
+        try {
+            AuthUser authUser = new AuthUser(Long.parseLong(claims.sub), claims.email, UserRole.of(claims.userRole));
+            return new VerifiedToken(authUser, issuedAt(claims), expiresAt);
+        } catch (RuntimeException e) {
+            throw new MalformedJwtException("JWT claims 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    // iatMs가 없는 토큰(jjwt로 만든 토큰)은 iat 초의 시작으로 보므로 같은 초의 폐기에는 걸림
+    // iat도 없으면 사용자 단위 폐기에 걸리도록 가장 이른 시각으로 취급
+    private static long issuedAt(ParsedClaims claims) {
+        if (claims.iatMs != null) {
+            return claims.iatMs;
+        }
+        return claims.iat == null ? 0 : claims.iat * 1000;
+    }
+
+    private byte[] sign(String signingInput) {
+        return macs.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String decodeJson(String part) {
+        return new String(decodeBase64(part), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] decodeBase64(String part) {
+        try {
+            return DECODER.decode(part);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("JWT가 Base64URL 형식이 아닙니다.", e);
+        }
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // Jackson 기본 설정과 같은 방식으로 이스케이프
+    private static void appendString(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\b' -> out.append("\\b");
+                case '\f' -> out.append("\\f");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04X", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    private static class ParsedClaims {
+        private String alg;
+        private String sub;
+        private String email;
+        private String userRole;
+        private Long exp;
+        private Long iat;
+        private Long iatMs;
+    }
+
+    /**
+     * 중첩 없는 JSON 객체만 읽는 파서. 우리가 쓰는 필드만 보관하고 나머지 값은 건너뛴다.
+     */
+    private static class FlatJsonReader {
+
+        private final String json;
+        private int pos;
+
+        FlatJsonReader(String json) {
+            this.json = json;
+        }
+
+        ParsedClaims readObject() {
+            ParsedClaims claims = new ParsedClaims();
+            expect('{');
+            if (peek() == '}') {
+                pos++;
+                return end(claims);
+            }
+            while (true) {
+                String name = readString();
+                expect(':');
+                skipWhitespace();
+                switch (name) {
+                    case "alg" -> claims.alg = readString();
+                    case "sub" -> claims.sub = readString();
+                    case "email" -> claims.email = readString();
+                    case "userRole" -> claims.userRole = readString();
+                    case "exp" -> claims.exp = readLong();
+                    case "iat" -> claims.iat = readLong();
+                    case "iatMs" -> claims.iatMs = readLong();
+                    default -> skipValue();
+                }
+                char next = next();
+                if (next == '}') {
+                    return end(claims);
+                }
+                if (next != ',') {
+                    throw malformed();
+                }
+            }
+        }
+
+        private ParsedClaims end(ParsedClaims claims) {
+            skipWhitespace();
+            if (pos != json.length()) {
+                throw malformed();
+            }
+            return claims;
+        }
+
+        private String readString() {
+            expect('"');
+            StringBuilder value = null;
+            int start = pos;
+            while (pos < json.length()) {
+                char c = json.charAt(pos++);
+                if (c == '"') {
+                    return value == null ? json.substring(start, pos - 1) : value.toString();
+                }
+                if (c == '\\') {
+                    if (value == null) {
+                        value = new StringBuilder(json.substring(start, pos - 1));
+                    }
+                    value.append(readEscape());
+                } else if (value != null) {
+                    value.append(c);
+                }
+            }
+            throw malformed();
+        }
+
+        private char readEscape() {
+            if (pos >= json.length()) {
+                throw malformed();
+            }
+            char c = json.charAt(pos++);
+            return switch (c) {
+                case '"', '\\', '/' -> c;
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'u' -> {
+                    if (pos + 4 > json.length()) {
+                        throw malformed();
+                    }
+                    try {
+                        char decoded = (char) Integer.parseInt(json, pos, pos + 4, 16);
+                        pos += 4;
+                        yield decoded;
+                    } catch (NumberFormatException e) {
+                        throw malformed();
+                    }
+                }
+                default -> throw malformed();
+            };
+        }
+
+        private long readLong() {
+            int start = pos;
+            if (pos < json.length() && json.charAt(pos) == '-') {
+                pos++;
+            }
+            while (pos < json.length() && Character.isDigit(json.charAt(pos))) {
+                pos++;
+            }
+            try {
+                return Long.parseLong(json, start, pos, 10);
+            } catch (NumberFormatException e) {
+                throw malformed();
+            }
+        }
+
+        // 문자열, 숫자, true/false/null만 허용 (우리 토큰에는 중첩 값이 없음)
+        private void skipValue() {
+            char c = peek();
+            if (c == '"') {
+                readString();
+                return;
+            }
+            if (c == '{' || c == '[') {
+                throw new UnsupportedJwtException("중첩된 JWT claims는 지원하지 않습니다.");
+            }
+            while (pos < json.length() && ",}".indexOf(json.charAt(pos)) < 0 && !Character.isWhitespace(json.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private void expect(char expected) {
+            if (next() != expected) {
+                throw malformed();
+            }
+        }
+
+        private char next() {
+            char c = peek();
+            pos++;
+            return c;
+        }
+
+        private char peek() {
+            skipWhitespace();
+            if (pos >= json.length()) {
+                throw malformed();
+            }
+            return json.charAt(pos);
+        }
+
+        private void skipWhitespace() {
+            while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private MalformedJwtException malformed() {
+            return new MalformedJwtException("JWT JSON 형식이 올바르지 않습니다.");
+        }
+    }
+}
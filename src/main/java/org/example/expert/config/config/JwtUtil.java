@@ -1,8 +1,5 @@
 package org.example.expert.config.config;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
@@ -12,40 +9,32 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.security.Key;
 import java.util.Base64;
-import java.util.Date;
 
 @Slf4j(topic = "JwtUtil")
 @Component
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
 
     @Value("${jwt.secret.key}")
     private String secretKey;
-    private Key key;
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    // 리프레시 토큰으로 재발급하므로 엑세스 토큰은 짧게 유지 (기본 15분)
+    @Value("${jwt.access-token-ttl-ms:900000}")
+    private long accessTokenTtlMs;
+    private Hs256JwtCodec codec;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(bytes);
+        // HS256에 필요한 키 길이(256bit)를 jjwt와 같은 기준으로 확인
+        codec = new Hs256JwtCodec(Keys.hmacShaKeyFor(bytes).getEncoded());
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
-        Date date = new Date();
+        long now = System.currentTimeMillis();
 
-        return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(String.valueOf(userId))
-                        .claim("email", email)
-                        .claim("userRole", userRole)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME)) //만료시간
-                        .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
-                        .compact();
+        return BEARER_PREFIX + codec.encode(userId, email, userRole, now, now + accessTokenTtlMs);
     }
 
     public String substringToken(String tokenValue) {
@@ -55,12 +44,8 @@ public class JwtUtil {
         throw new ServerException("Not Found Token");
     }
 
-    // 검증 + 추출
-    public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // 검증 후 요청에 필요한 사용자 정보와 만료 시각만 꺼냄
+    public VerifiedToken verifyToken(String token) {
+        return codec.decode(token, System.currentTimeMillis());
     }
 }
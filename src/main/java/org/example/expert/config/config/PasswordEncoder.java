@@ -1,17 +1,191 @@
 package org.example.expert.config.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.exception.custom.ServerException;
+import org.example.expert.config.exception.custom.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * bcrypt 해시는 CPU 코어 수만큼의 전용 스레드에서만 실행한다.
+ * 로그인이 몰려도 해시가 코어를 모두 차지해 가벼운 조회 요청까지 느려지지 않도록 하고,
+ * 대기열까지 가득 차면 무한정 쌓지 않고 바로 503(Retry-After)으로 거절한다.
+ */
+@Slf4j
 @Component
 public class PasswordEncoder {
 
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    // 해시 한 번에 허용할 시간, 이 안에 들어오는 가장 높은 cost를 사용
+    private final long targetMs;
+    private final int minCost;
+    private final int maxCost;
+    private final long retryAfterSeconds;
+
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    private volatile int cost = BCrypt.MIN_COST;
+
+    public PasswordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${password.bcrypt.target-ms:250}") long targetMs,
+            @Value("${password.bcrypt.min-cost:10}") int minCost,
+            @Value("${password.bcrypt.max-cost:16}") int maxCost,
+            @Value("${password.hashing.threads:0}") int threads,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${password.hashing.retry-after-seconds:1}") long retryAfterSeconds
+    ) {
+        this.targetMs = targetMs;
+        this.minCost = minCost;
+        this.maxCost = maxCost;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        // 0이면 CPU 코어 수
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("auth.password.hashing.queue", executor.getQueue(), BlockingQueue::size).register(meterRegistry);
+        this.encodeTimer = meterRegistry.timer("auth.password.hashing", "operation", "encode");
+        this.matchesTimer = meterRegistry.timer("auth.password.hashing", "operation", "matches");
+        this.rejectedCounter = meterRegistry.counter("auth.password.hashing.rejected");
+    }
+
+    // 현재 하드웨어에서 cost별 해시 시간을 재서 cost를 정함, cost가 1 오를 때마다 시간이 두 배라 넘으면 바로 멈춤
+    @PostConstruct
+    public void calibrate() {
+        int calibrated = minCost;
+        hash(minCost); // 워밍업
+        for (int candidate = minCost; candidate <= maxCost; candidate++) {
+            long elapsedMs = hash(candidate);
+            if (elapsedMs > targetMs) {
+                if (candidate == minCost) {
+                    log.warn("bcrypt 최소 cost {}도 목표 시간 {}ms를 넘습니다. ({}ms)", minCost, targetMs, elapsedMs);
+                }
+                break;
+            }
+            calibrated = candidate;
+        }
+        cost = calibrated;
+        log.info("bcrypt cost를 {}로 설정했습니다. (목표 {}ms)", cost, targetMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        int currentCost = cost;
+        return submit(encodeTimer.wrap(
+                (Callable<String>) () -> BCrypt.withDefaults().hashToString(currentCost, rawPassword.toCharArray())));
+    }
+
+    /**
+     * 결과를 기다리지 않고 해싱 풀에서 해시를 만든 뒤 그 스레드에서 onEncoded를 호출한다.
+     * 대기열이 가득 차면 실행하지 않고 false를 반환하며, rawPassword는 실행 여부와 관계없이 해시 후 0으로 지운다.
+     */
+    public boolean tryEncodeInBackground(char[] rawPassword, Consumer<String> onEncoded) {
+        int currentCost = cost;
+        try {
+            executor.execute(() -> {
+                String encoded;
+                try {
+                    encoded = encodeTimer.record(
+                            (Supplier<String>) () -> BCrypt.withDefaults().hashToString(currentCost, rawPassword));
+                } finally {
+                    Arrays.fill(rawPassword, '\0');
+                }
+                onEncoded.accept(encoded);
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            Arrays.fill(rawPassword, '\0');
+            rejectedCounter.increment();
+            return false;
+        }
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return submit(matchesTimer.wrap(
+                (Callable<Boolean>) () -> BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified));
+    }
+
+    // 현재 cost보다 낮은 cost로 만든 해시인지 확인 ("$2a$10$..." 형식)
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("요청이 많아 잠시 후 다시 시도해 주세요.", retryAfterSeconds);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리 중 오류가 발생했습니다.");
+        }
+    }
+
+    private long hash(int cost) {
+        long start = System.nanoTime();
+        BCrypt.withDefaults().hash(cost, CALIBRATION_PASSWORD.toCharArray());
+        return (System.nanoTime() - start) / 1_000_000;
     }
 }
@@ -0,0 +1,115 @@
+package org.example.expert.config.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Hibernate 2차 캐시 영역을 Caffeine(JCache)으로 만든다.
+ * 영역별 최대 개수와 TTL은 설정 값으로 정하고, 영역별 적중률은 Micrometer로 내보낸다.
+ * JPQL 조회는 2차 캐시를 거치지 않으므로 캐시 효과는 findById(em.find)와 지연 로딩에서만 난다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String USER_REGION = "users";
+    public static final String TODO_REGION = "todos";
+    public static final String TODO_MANAGERS_REGION = "todos.managers";
+    public static final String MANAGER_REGION = "managers";
+
+    private static final List<String> REGIONS = List.of(USER_REGION, TODO_REGION, TODO_MANAGERS_REGION, MANAGER_REGION);
+
+    private final CacheManager cacheManager;
+
+    public SecondLevelCacheConfig(
+            @Value("${hibernate.second-level-cache.user.maximum-size:10000}") long userMaximumSize,
+            @Value("${hibernate.second-level-cache.user.ttl-seconds:600}") long userTtlSeconds,
+            @Value("${hibernate.second-level-cache.todo.maximum-size:50000}") long todoMaximumSize,
+            @Value("${hibernate.second-level-cache.todo.ttl-seconds:300}") long todoTtlSeconds,
+            @Value("${hibernate.second-level-cache.todo-managers.maximum-size:50000}") long todoManagersMaximumSize,
+            @Value("${hibernate.second-level-cache.todo-managers.ttl-seconds:300}") long todoManagersTtlSeconds
+    ) {
+        // 같은 JVM에 컨텍스트가 여러 개 떠도(테스트) 영역이 섞이지 않도록 컨텍스트마다 별도 CacheManager 사용
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        this.cacheManager = provider.getCacheManager(
+                URI.create("expert-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        createRegion(USER_REGION, userMaximumSize, userTtlSeconds);
+        createRegion(TODO_REGION, todoMaximumSize, todoTtlSeconds);
+        createRegion(TODO_MANAGERS_REGION, todoManagersMaximumSize, todoManagersTtlSeconds);
+        // 컬렉션 캐시에는 담당자 id만 들어가므로 담당자 엔티티도 같은 크기/TTL로 캐시
+        createRegion(MANAGER_REGION, todoManagersMaximumSize, todoManagersTtlSeconds);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            for (String region : REGIONS) {
+                Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics, regionStat(region, SecondLevelCacheConfig::hitRatio))
+                        .tag("region", region)
+                        .register(registry);
+                FunctionCounter.builder("hibernate.second.level.cache.requests", statistics, regionStat(region, CacheRegionStatistics::getHitCount))
+                        .tags("region", region, "result", "hit")
+                        .register(registry);
+                FunctionCounter.builder("hibernate.second.level.cache.requests", statistics, regionStat(region, CacheRegionStatistics::getMissCount))
+                        .tags("region", region, "result", "miss")
+                        .register(registry);
+                FunctionCounter.builder("hibernate.second.level.cache.puts", statistics, regionStat(region, CacheRegionStatistics::getPutCount))
+                        .tag("region", region)
+                        .register(registry);
+            }
+        };
+    }
+
+    @PreDestroy
+    public void close() {
+        cacheManager.close();
+    }
+
+    private void createRegion(String region, long maximumSize, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        cacheManager.createCache(region, configuration);
+    }
+
+    private static ToDoubleFunction<Statistics> regionStat(String region, ToDoubleFunction<CacheRegionStatistics> stat) {
+        return statistics -> {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            return regionStatistics == null ? 0 : stat.applyAsDouble(regionStatistics);
+        };
+    }
+
+    private static double hitRatio(CacheRegionStatistics statistics) {
+        long requests = statistics.getHitCount() + statistics.getMissCount();
+        return requests == 0 ? 0 : (double) statistics.getHitCount() / requests;
+    }
+}
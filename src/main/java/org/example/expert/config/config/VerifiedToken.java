@@ -0,0 +1,18 @@
+package org.example.expert.config.config;
+
+import lombok.Getter;
+import org.example.expert.domain.common.dto.AuthUser;
+
+@Getter
+public class VerifiedToken {
+
+    private final AuthUser authUser;
+    private final long issuedAt; // epoch millis
+    private final long expiresAt; // epoch millis
+
+    public VerifiedToken(AuthUser authUser, long issuedAt, long expiresAt) {
+        this.authUser = authUser;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+}
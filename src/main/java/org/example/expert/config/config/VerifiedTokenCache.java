@@ -0,0 +1,82 @@
+package org.example.expert.config.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 번 검증한 JWT의 사용자 정보를 토큰의 만료 시각(exp)까지만 보관하는 캐시.
+ * 같은 토큰으로 반복 요청이 오면 서명 검증과 claims 파싱을 건너뛴다.
+ * 토큰 원문 대신 SHA-256 다이제스트({@link TokenDigest})를 키로 사용해 메모리에 토큰이 남지 않도록 한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final Clock clock;
+    private final Cache<String, VerifiedToken> cache;
+
+    @Autowired
+    public VerifiedTokenCache(
+            JwtUtil jwtUtil,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.maximum-size:10000}") long maximumSize
+    ) {
+        this(jwtUtil, meterRegistry, Clock.systemUTC(), Ticker.systemTicker(), maximumSize);
+    }
+
+    VerifiedTokenCache(JwtUtil jwtUtil, MeterRegistry meterRegistry, Clock clock, Ticker ticker, long maximumSize) {
+        this.jwtUtil = jwtUtil;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+    }
+
+    // 캐시에 없으면 검증하고, 검증 실패 시 JwtUtil의 예외를 그대로 던짐 (실패 결과는 캐시하지 않음)
+    public VerifiedToken get(String tokenDigest, String token) {
+        VerifiedToken verifiedToken = cache.get(tokenDigest, k -> jwtUtil.verifyToken(token));
+        if (verifiedToken.getExpiresAt() <= clock.millis()) {
+            // 만료와 조회가 겹친 경우, 다시 검증해 만료 예외가 나도록 함
+            cache.invalidate(tokenDigest);
+            return jwtUtil.verifyToken(token);
+        }
+        return verifiedToken;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMs = Math.max(0, value.getExpiresAt() - clock.millis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMs);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
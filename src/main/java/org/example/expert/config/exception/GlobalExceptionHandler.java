@@ -2,7 +2,12 @@ package org.example.expert.config.exception;
 
 import org.example.expert.config.exception.custom.AuthException;
 import org.example.expert.config.exception.custom.InvalidRequestException;
+import org.example.expert.config.exception.custom.PreconditionFailedException;
 import org.example.expert.config.exception.custom.ServerException;
+import org.example.expert.config.exception.custom.ServiceUnavailableException;
+import org.example.expert.config.exception.custom.TooManyRequestsException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -34,6 +39,35 @@ public class GlobalExceptionHandler {
         return getErrorResponse(status, ex.getMessage());
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Map<String, Object>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(getErrorResponse(status, ex.getMessage()).getBody());
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Map<String, Object>> handleTooManyRequestsException(TooManyRequestsException ex) {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(getErrorResponse(status, ex.getMessage()).getBody());
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Map<String, Object>> handlePreconditionFailedException(PreconditionFailedException ex) {
+        HttpStatus status = HttpStatus.PRECONDITION_FAILED;
+        return getErrorResponse(status, ex.getMessage());
+    }
+
+    // If-Match 없이 수정했더라도 읽은 뒤 다른 요청이 먼저 커밋했다면 같은 이유로 실패
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        HttpStatus status = HttpStatus.PRECONDITION_FAILED;
+        return getErrorResponse(status, "다른 요청에서 먼저 수정되었습니다. 다시 조회한 뒤 수정해 주세요.");
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationFailed(MethodArgumentNotValidException exception) {
         List<String> validFailedList = exception.getBindingResult().getFieldErrors()
@@ -0,0 +1,8 @@
+package org.example.expert.config.exception.custom;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
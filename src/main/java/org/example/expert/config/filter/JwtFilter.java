@@ -1,6 +1,5 @@
 package org.example.expert.config.filter;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -11,6 +10,11 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.config.JwtUtil;
+import org.example.expert.config.config.TokenDigest;
+import org.example.expert.config.config.VerifiedToken;
+import org.example.expert.config.config.VerifiedTokenCache;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.common.dto.AuthUser;
 
 import java.io.IOException;
 
@@ -19,6 +23,8 @@ import java.io.IOException;
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -49,19 +55,23 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt); //베어러 제거
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
-            if (claims == null) {
-                httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
+            // JWT 유효성 검사와 사용자 정보 추출 (이미 검증한 토큰은 캐시에서 꺼냄)
+            String tokenDigest = TokenDigest.sha256(jwt);
+            VerifiedToken verifiedToken = verifiedTokenCache.get(tokenDigest, jwt);
+
+            // 로그아웃, 비밀번호/권한 변경으로 폐기된 토큰인지 메모리에서 확인
+            if (tokenRevocationService.isRevoked(tokenDigest, verifiedToken)) {
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다.");
                 return;
             }
+            AuthUser authUser = verifiedToken.getAuthUser();
 
 //            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
 
             // 검증만하고 jwt에 담아줌
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            httpRequest.setAttribute("userId", authUser.getId());
+            httpRequest.setAttribute("email", authUser.getEmail());
+            httpRequest.setAttribute("userRole", authUser.getUserRole().name());
 
 
 //            if (url.startsWith("/admin")) {
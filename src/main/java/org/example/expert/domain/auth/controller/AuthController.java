@@ -1,14 +1,19 @@
 package org.example.expert.domain.auth.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.dto.request.LogoutRequest;
+import org.example.expert.domain.auth.dto.request.RefreshTokenRequest;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.response.RefreshTokenResponse;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.service.AuthService;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -23,10 +28,21 @@ public class AuthController {
     }
 
     @PostMapping("/auth/signin")
-    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest) {
-        return authService.signin(signinRequest);
+    public SigninResponse signin(@Valid @RequestBody SigninRequest signinRequest, HttpServletRequest request) {
+        return authService.signin(signinRequest, request.getRemoteAddr());
     }
 
-    // 리프레시 토큰으로 엑세스 토큰 발급 하는 api 작성
+    // 리프레시 토큰으로 엑세스 토큰 발급
+    @PostMapping("/auth/refresh")
+    public RefreshTokenResponse refresh(@Valid @RequestBody RefreshTokenRequest refreshTokenRequest) {
+        return authService.refresh(refreshTokenRequest);
+    }
 
+    @PostMapping("/auth/logout")
+    public void logout(
+            @RequestHeader("Authorization") String bearerToken,
+            @RequestBody(required = false) LogoutRequest logoutRequest
+    ) {
+        authService.logout(bearerToken, logoutRequest);
+    }
 }
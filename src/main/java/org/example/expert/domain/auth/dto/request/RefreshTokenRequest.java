@@ -0,0 +1,15 @@
+package org.example.expert.domain.auth.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "리프레시 토큰은 필수 입력값 입니다.")
+    private String refreshToken;
+}
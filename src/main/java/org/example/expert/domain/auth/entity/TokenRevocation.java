@@ -0,0 +1,53 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 엑세스 토큰 기록.
+ * tokenHash가 있으면 해당 토큰 하나(로그아웃), userId가 있으면 revokedAt 이전에 발급된
+ * 그 사용자의 모든 토큰(비밀번호/권한 변경)을 폐기한다.
+ * expiresAt이 지나면 폐기 대상 토큰도 모두 만료되므로 정리 대상이 된다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "idx_token_revocations_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_token_revocations_revoked_at", columnList = "revoked_at")
+})
+public class TokenRevocation {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    private TokenRevocation(String tokenHash, Long userId, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.userId = userId;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static TokenRevocation ofToken(String tokenHash, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        return new TokenRevocation(tokenHash, null, revokedAt, expiresAt);
+    }
+
+    public static TokenRevocation ofUser(Long userId, LocalDateTime revokedAt, LocalDateTime expiresAt) {
+        return new TokenRevocation(null, userId, revokedAt, expiresAt);
+    }
+}
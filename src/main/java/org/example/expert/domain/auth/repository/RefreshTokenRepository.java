@@ -0,0 +1,40 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @Query("SELECT r FROM RefreshToken r " +
+            "JOIN FETCH r.user " +
+            "WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashWithUser(@Param("tokenHash") String tokenHash);
+
+    // 동시에 같은 토큰으로 재발급을 요청해도 삭제에 성공한 한 요청만 새 토큰을 받음
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.id = :id")
+    int deleteToken(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT r.id FROM RefreshToken r WHERE r.expiresAt < :now ORDER BY r.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+}
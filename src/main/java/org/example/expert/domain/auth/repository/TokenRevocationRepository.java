@@ -0,0 +1,27 @@
+package org.example.expert.domain.auth.repository;
+
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    // from 이후에 폐기된 아직 유효한 기록을 id 순으로 읽음, lastId는 같은 동기화 안에서 배치를 이어 읽는 커서
+    @Query("SELECT r FROM TokenRevocation r " +
+            "WHERE r.revokedAt >= :from AND r.id > :lastId AND r.expiresAt > :now ORDER BY r.id")
+    List<TokenRevocation> findActiveRevokedSince(@Param("from") LocalDateTime from, @Param("lastId") Long lastId,
+                                                 @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT r.id FROM TokenRevocation r WHERE r.expiresAt < :now ORDER BY r.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TokenRevocation r WHERE r.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+}
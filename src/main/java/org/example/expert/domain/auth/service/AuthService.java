@@ -3,8 +3,13 @@ package org.example.expert.domain.auth.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.config.JwtUtil;
 import org.example.expert.config.config.PasswordEncoder;
+import org.example.expert.config.config.TokenDigest;
+import org.example.expert.config.config.VerifiedToken;
+import org.example.expert.domain.auth.dto.request.LogoutRequest;
+import org.example.expert.domain.auth.dto.request.RefreshTokenRequest;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.response.RefreshTokenResponse;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.config.exception.custom.AuthException;
@@ -22,6 +27,10 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final PasswordRehasher passwordRehasher;
+    private final LoginThrottler loginThrottler;
 
     @Transactional
     public SignupResponse signup(SignupRequest signupRequest) {
@@ -45,22 +54,67 @@ public class AuthService {
         String bearerToken = jwtUtil.createToken(newUser.getId(), newUser.getEmail(), userRole);
 
         // 리프레시 토큰까지 (리프레시는 DB에 저장 --> 유효성은 DB)
+        String refreshToken = refreshTokenService.issue(newUser);
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshToken);
     }
 
-    @Transactional(readOnly = true)
-    public SigninResponse signin(SigninRequest signinRequest) {
-        User user = findUserByEmailOrElseThrow(signinRequest.getEmail());
+    // bcrypt 검증은 해싱 풀에서 수백 ms가 걸리므로 트랜잭션 밖에서 함, DB 커넥션은 사용자 조회와 리프레시 토큰 저장 때만 잠깐 씀
+    public SigninResponse signin(SigninRequest signinRequest, String clientIp) {
+        // bcrypt 검증 전에 계정/IP별 시도 횟수를 먼저 확인, 초과 시 429
+        loginThrottler.checkAllowed(signinRequest.getEmail(), clientIp);
+
+        // 조회는 리포지토리의 읽기 전용 트랜잭션 안에서 끝남
+        User user;
+        try {
+            user = findUserByEmailOrElseThrow(signinRequest.getEmail());
+        } catch (InvalidRequestException e) {
+            loginThrottler.onFailure(signinRequest.getEmail(), clientIp);
+            throw e;
+        }
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
         if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
+            loginThrottler.onFailure(signinRequest.getEmail(), clientIp);
             throw new AuthException("잘못된 비밀번호입니다.");
         }
+        loginThrottler.onSuccess(signinRequest.getEmail());
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        // 리프레시 토큰은 저장(save)의 자체 트랜잭션으로 따로 커밋
+        String refreshToken = refreshTokenService.issue(user);
+        // 예전 cost로 만든 해시는 해싱 풀에서 현재 cost로 교체 (응답은 기다리지 않음)
+        passwordRehasher.rehashIfNeeded(user.getId(), signinRequest.getPassword(), user.getPassword());
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    // 비밀번호 검증 없이 리프레시 토큰만으로 재발급, 사용한 리프레시 토큰은 폐기하고 새로 발급
+    @Transactional
+    public RefreshTokenResponse refresh(RefreshTokenRequest refreshTokenRequest) {
+        User user = refreshTokenService.consume(refreshTokenRequest.getRefreshToken());
 
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String refreshToken = refreshTokenService.issue(user);
 
-        return new SigninResponse(bearerToken);
+        return new RefreshTokenResponse(bearerToken, refreshToken);
+    }
+
+    // 현재 엑세스 토큰을 폐기하고, 함께 보낸 리프레시 토큰이 있으면 삭제
+    @Transactional
+    public void logout(String bearerToken, LogoutRequest logoutRequest) {
+        String jwt = jwtUtil.substringToken(bearerToken);
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = jwtUtil.verifyToken(jwt);
+        } catch (RuntimeException e) {
+            throw new AuthException("유효하지 않는 JWT 토큰입니다.");
+        }
+        tokenRevocationService.revokeToken(TokenDigest.sha256(jwt), verifiedToken.getExpiresAt());
+
+        if (logoutRequest != null && logoutRequest.getRefreshToken() != null) {
+            refreshTokenService.revoke(logoutRequest.getRefreshToken());
+        }
     }
 
     public User findUserByEmailOrElseThrow(String email) {
@@ -0,0 +1,59 @@
+package org.example.expert.domain.auth.service;
+
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 hex 다이제스트 전용 블룸 필터.
+ * 다이제스트가 이미 고르게 분포된 값이므로 앞 16바이트를 두 개의 해시로 쓰는 double hashing으로 비트를 고른다.
+ * 비트 설정은 CAS로 하므로 여러 스레드가 잠금 없이 추가/조회할 수 있다.
+ */
+class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final int expectedInsertions;
+    private final AtomicInteger insertions = new AtomicInteger();
+
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-this.expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, optimalBits);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / this.expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+    }
+
+    void put(String sha256Hex) {
+        long h1 = HexFormat.fromHexDigitsToLong(sha256Hex, 0, 16);
+        long h2 = HexFormat.fromHexDigitsToLong(sha256Hex, 16, 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(index);
+            } while ((current & mask) == 0 && !bits.compareAndSet(index, current, current | mask));
+        }
+        insertions.incrementAndGet();
+    }
+
+    boolean mightContain(String sha256Hex) {
+        long h1 = HexFormat.fromHexDigitsToLong(sha256Hex, 0, 16);
+        long h2 = HexFormat.fromHexDigitsToLong(sha256Hex, 16, 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 예상보다 많이 넣으면 오탐률이 올라가므로 다시 만들 때가 됨
+    boolean isSaturated() {
+        return insertions.get() > expectedInsertions;
+    }
+}
@@ -0,0 +1,253 @@
+package org.example.expert.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.config.exception.custom.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 비밀번호 검증(bcrypt) 전에 계정(email)과 클라이언트 IP별 토큰 버킷으로 로그인 시도를 제한한다.
+ * 연속 실패가 임계치를 넘으면 실패할 때마다 두 배씩 길어지는 잠금을 건다.
+ * 버킷 상태는 불변 객체를 CAS로 바꿔 잠금 없이 갱신하고, 버킷 저장소는 최대 개수와
+ * 미사용 만료 시간이 있는 Caffeine 캐시(내부적으로 분할 잠금)라 메모리가 일정 이상 늘지 않는다.
+ */
+@Component
+public class LoginThrottler {
+
+    private final Limit accountLimit;
+    private final Limit ipLimit;
+    private final long lockoutBaseNanos;
+    private final long lockoutMaxNanos;
+    private final Ticker ticker;
+
+    private final Cache<String, Bucket> accountBuckets;
+    private final Cache<String, Bucket> ipBuckets;
+
+    private final Counter accountThrottledCounter;
+    private final Counter ipThrottledCounter;
+    private final Counter lockoutCounter;
+
+    @Autowired
+    public LoginThrottler(
+            MeterRegistry meterRegistry,
+            @Value("${auth.login-throttle.account.capacity:10}") int accountCapacity,
+            @Value("${auth.login-throttle.account.refill-per-minute:5}") int accountRefillPerMinute,
+            @Value("${auth.login-throttle.account.lockout-threshold:5}") int accountLockoutThreshold,
+            @Value("${auth.login-throttle.ip.capacity:50}") int ipCapacity,
+            @Value("${auth.login-throttle.ip.refill-per-minute:30}") int ipRefillPerMinute,
+            @Value("${auth.login-throttle.ip.lockout-threshold:20}") int ipLockoutThreshold,
+            @Value("${auth.login-throttle.lockout-base-seconds:30}") long lockoutBaseSeconds,
+            @Value("${auth.login-throttle.lockout-max-seconds:3600}") long lockoutMaxSeconds,
+            @Value("${auth.login-throttle.max-tracked-keys:100000}") long maxTrackedKeys
+    ) {
+        this(meterRegistry, Ticker.systemTicker(),
+                new Limit(accountCapacity, accountRefillPerMinute, accountLockoutThreshold),
+                new Limit(ipCapacity, ipRefillPerMinute, ipLockoutThreshold),
+                Duration.ofSeconds(lockoutBaseSeconds), Duration.ofSeconds(lockoutMaxSeconds), maxTrackedKeys);
+    }
+
+    LoginThrottler(MeterRegistry meterRegistry, Ticker ticker, Limit accountLimit, Limit ipLimit,
+                   Duration lockoutBase, Duration lockoutMax, long maxTrackedKeys) {
+        this.accountLimit = accountLimit;
+        this.ipLimit = ipLimit;
+        this.lockoutBaseNanos = lockoutBase.toNanos();
+        this.lockoutMaxNanos = lockoutMax.toNanos();
+        this.ticker = ticker;
+
+        // 잠금이 풀리고 버킷이 다시 가득 찰 만큼 쓰이지 않은 키는 기억할 필요가 없음
+        long idleNanos = Math.max(lockoutMaxNanos,
+                Math.max(accountLimit.fullRefillNanos(), ipLimit.fullRefillNanos()));
+        this.accountBuckets = buildCache(maxTrackedKeys, idleNanos);
+        this.ipBuckets = buildCache(maxTrackedKeys, idleNanos);
+
+        Gauge.builder("auth.login.throttle.keys", accountBuckets, Cache::estimatedSize).tag("key", "account").register(meterRegistry);
+        Gauge.builder("auth.login.throttle.keys", ipBuckets, Cache::estimatedSize).tag("key", "ip").register(meterRegistry);
+        this.accountThrottledCounter = meterRegistry.counter("auth.login.throttled", "key", "account");
+        this.ipThrottledCounter = meterRegistry.counter("auth.login.throttled", "key", "ip");
+        this.lockoutCounter = meterRegistry.counter("auth.login.lockouts");
+    }
+
+    // 비밀번호 검증 전에 호출, 어느 한쪽이라도 막히면 429
+    // 두 버킷이 모두 허용할 때만 토큰을 씀, 이미 막힌 IP의 시도가 계정 버킷을 비워 실제 사용자를 잠그지 못하도록
+    public void checkAllowed(String email, String clientIp) {
+        long now = ticker.read();
+        Bucket accountBucket = accountBuckets.get(accountKey(email), key -> new Bucket(accountLimit, now));
+        Bucket ipBucket = ipBuckets.get(clientIp, key -> new Bucket(ipLimit, now));
+
+        long accountWait = accountBucket.waitNanos(now, accountLimit);
+        if (accountWait > 0) {
+            accountThrottledCounter.increment();
+            throw throttled(accountWait);
+        }
+        long ipWait = ipBucket.waitNanos(now, ipLimit);
+        if (ipWait > 0) {
+            ipThrottledCounter.increment();
+            throw throttled(ipWait);
+        }
+
+        // 확인한 뒤 다른 요청이 먼저 토큰을 가져갔을 수 있음
+        accountWait = accountBucket.tryAcquire(now, accountLimit);
+        if (accountWait > 0) {
+            accountThrottledCounter.increment();
+            throw throttled(accountWait);
+        }
+        ipWait = ipBucket.tryAcquire(now, ipLimit);
+        if (ipWait > 0) {
+            accountBucket.refund(accountLimit);
+            ipThrottledCounter.increment();
+            throw throttled(ipWait);
+        }
+    }
+
+    public void onFailure(String email, String clientIp) {
+        long now = ticker.read();
+        Bucket accountBucket = accountBuckets.getIfPresent(accountKey(email));
+        if (accountBucket != null && accountBucket.recordFailure(now, accountLimit, lockoutBaseNanos, lockoutMaxNanos)) {
+            lockoutCounter.increment();
+        }
+        Bucket ipBucket = ipBuckets.getIfPresent(clientIp);
+        if (ipBucket != null && ipBucket.recordFailure(now, ipLimit, lockoutBaseNanos, lockoutMaxNanos)) {
+            lockoutCounter.increment();
+        }
+    }
+
+    public void onSuccess(String email) {
+        Bucket accountBucket = accountBuckets.getIfPresent(accountKey(email));
+        if (accountBucket != null) {
+            accountBucket.resetFailures();
+        }
+    }
+
+    private static String accountKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static TooManyRequestsException throttled(long waitNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        return new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.", retryAfterSeconds);
+    }
+
+    private Cache<String, Bucket> buildCache(long maxTrackedKeys, long idleNanos) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(idleNanos, TimeUnit.NANOSECONDS)
+                .ticker(ticker)
+                .build();
+    }
+
+    record Limit(int capacity, int refillPerMinute, int lockoutThreshold) {
+
+        double refillPerNano() {
+            return refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        }
+
+        long fullRefillNanos() {
+            return (long) (capacity / refillPerNano());
+        }
+    }
+
+    static final class Bucket {
+
+        private record State(double tokens, long refilledAt, int failures, long lockedUntil) {
+        }
+
+        private final AtomicReference<State> state;
+
+        Bucket(Limit limit, long now) {
+            this.state = new AtomicReference<>(new State(limit.capacity(), now, 0, now));
+        }
+
+        // 토큰을 쓰지 않고 확인만 함, 지금 쓸 수 있으면 0
+        long waitNanos(long now, Limit limit) {
+            State current = state.get();
+            if (now - current.lockedUntil() < 0) {
+                return current.lockedUntil() - now;
+            }
+            return waitForToken(refilled(current, now, limit), limit);
+        }
+
+        // 토큰을 하나 쓰고 0을 반환, 쓸 수 없으면 다시 시도할 수 있을 때까지 남은 시간(ns)을 반환
+        long tryAcquire(long now, Limit limit) {
+            while (true) {
+                State current = state.get();
+                if (now - current.lockedUntil() < 0) {
+                    return current.lockedUntil() - now;
+                }
+                double tokens = refilled(current, now, limit);
+                if (tokens < 1) {
+                    return waitForToken(tokens, limit);
+                }
+                State next = new State(tokens - 1, now, current.failures(), current.lockedUntil());
+                if (state.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        // tryAcquire로 쓴 토큰을 되돌림
+        void refund(Limit limit) {
+            while (true) {
+                State current = state.get();
+                State next = new State(Math.min(limit.capacity(), current.tokens() + 1),
+                        current.refilledAt(), current.failures(), current.lockedUntil());
+                if (state.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+
+        // 잠금이 새로 걸리면 true
+        boolean recordFailure(long now, Limit limit, long lockoutBaseNanos, long lockoutMaxNanos) {
+            while (true) {
+                State current = state.get();
+                int failures = current.failures() + 1;
+                long lockedUntil = current.lockedUntil();
+                boolean locked = failures >= limit.lockoutThreshold();
+                if (locked) {
+                    int exponent = failures - limit.lockoutThreshold();
+                    // 시프트가 long 범위를 넘으면 최대 잠금 시간
+                    long lockout = exponent >= Long.numberOfLeadingZeros(lockoutBaseNanos) - 1
+                            ? lockoutMaxNanos
+                            : Math.min(lockoutMaxNanos, lockoutBaseNanos << exponent);
+                    lockedUntil = now + lockout;
+                }
+                State next = new State(current.tokens(), current.refilledAt(), failures, lockedUntil);
+                if (state.compareAndSet(current, next)) {
+                    return locked;
+                }
+            }
+        }
+
+        private static double refilled(State current, long now, Limit limit) {
+            return Math.min(limit.capacity(), current.tokens() + (now - current.refilledAt()) * limit.refillPerNano());
+        }
+
+        private static long waitForToken(double tokens, Limit limit) {
+            return tokens < 1 ? (long) Math.ceil((1 - tokens) / limit.refillPerNano()) : 0;
+        }
+
+        void resetFailures() {
+            while (true) {
+                State current = state.get();
+                if (current.failures() == 0) {
+                    return;
+                }
+                State next = new State(current.tokens(), current.refilledAt(), 0, current.lockedUntil());
+                if (state.compareAndSet(current, next)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.config.PasswordEncoder;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+
+/**
+ * 로그인에 성공한 사용자의 비밀번호 해시가 예전 cost로 만들어졌다면, 로그인 트랜잭션이 커밋된 뒤 해싱 풀에서 현재 cost로 다시 만든다.
+ * 로그인 응답은 재해시를 기다리지 않는다. 해싱 풀이 가득 차면 작업을 버리고 다음 로그인 때 다시 시도하며,
+ * 평문 비밀번호는 작업이 끝나거나 버려지는 즉시 지운다.
+ */
+@Slf4j
+@Component
+public class PasswordRehasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter rehashedCounter;
+    private final Counter skippedCounter;
+
+    public PasswordRehasher(
+            PasswordEncoder passwordEncoder,
+            UserRepository userRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.rehashedCounter = meterRegistry.counter("auth.password.rehash", "result", "rehashed");
+        this.skippedCounter = meterRegistry.counter("auth.password.rehash", "result", "skipped");
+    }
+
+    public void rehashIfNeeded(Long userId, String rawPassword, String encodedPassword) {
+        if (!passwordEncoder.needsRehash(encodedPassword)) {
+            return;
+        }
+        char[] password = rawPassword.toCharArray();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rehash(userId, password, encodedPassword);
+            return;
+        }
+        // 로그인 트랜잭션이 DB 커넥션을 잡고 있는 동안에는 해시를 만들지 않음, 롤백되면 비밀번호만 지움
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    rehash(userId, password, encodedPassword);
+                } else {
+                    Arrays.fill(password, '\0');
+                }
+            }
+        });
+    }
+
+    void rehash(Long userId, char[] rawPassword, String encodedPassword) {
+        if (!passwordEncoder.tryEncodeInBackground(rawPassword, rehashed -> update(userId, encodedPassword, rehashed))) {
+            skippedCounter.increment();
+            log.debug("해싱 풀이 가득 차 사용자 {}의 비밀번호 재해시를 다음 로그인으로 미룹니다.", userId);
+        }
+    }
+
+    // 해싱 스레드에서 새 트랜잭션으로 실행, 그 사이 비밀번호가 바뀌었다면 덮어쓰지 않음
+    private void update(Long userId, String encodedPassword, String rehashed) {
+        try {
+            Integer updated = transactionTemplate.execute(
+                    status -> userRepository.updatePasswordIfUnchanged(userId, encodedPassword, rehashed));
+            if (updated != null && updated > 0) {
+                rehashedCounter.increment();
+            } else {
+                skippedCounter.increment();
+            }
+        } catch (RuntimeException e) {
+            skippedCounter.increment();
+            log.warn("사용자 {}의 비밀번호 재해시를 저장하지 못했습니다.", userId, e);
+        }
+    }
+}
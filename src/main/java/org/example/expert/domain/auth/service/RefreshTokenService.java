@@ -0,0 +1,99 @@
+package org.example.expert.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.config.TokenDigest;
+import org.example.expert.config.exception.custom.AuthException;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 발급, 1회용 교체(rotation), 만료 토큰 정리를 담당한다.
+ * 토큰은 256bit 난수라 비밀번호처럼 느린 해시가 필요 없으므로 SHA-256 해시로 저장하고 인덱스로 조회한다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long ttlDays;
+    private final int cleanupBatchSize;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${jwt.refresh-token.ttl-days:14}") long ttlDays,
+            @Value("${jwt.refresh-token.cleanup-batch-size:1000}") int cleanupBatchSize
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttlDays = ttlDays;
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+
+    // 호출하는 쪽의 트랜잭션이 있으면 그 안에서, 없으면(로그인) save의 트랜잭션으로 바로 저장됨
+    public String issue(User user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(user, TokenDigest.sha256(token), LocalDateTime.now().plusDays(ttlDays)));
+        return token;
+    }
+
+    // 토큰을 검증하고 삭제해 한 번만 쓸 수 있게 함, 호출하는 쪽의 트랜잭션 안에서 실행되어야 함
+    public User consume(String token) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHashWithUser(TokenDigest.sha256(token))
+                .orElseThrow(() -> new AuthException("유효하지 않은 리프레시 토큰입니다."));
+
+        if (!refreshToken.getExpiresAt().isAfter(LocalDateTime.now())) {
+            throw new AuthException("만료된 리프레시 토큰입니다.");
+        }
+        if (refreshTokenRepository.deleteToken(refreshToken.getId()) == 0) {
+            throw new AuthException("이미 사용된 리프레시 토큰입니다.");
+        }
+        return refreshToken.getUser();
+    }
+
+    public void revoke(String token) {
+        refreshTokenRepository.deleteByTokenHash(TokenDigest.sha256(token));
+    }
+
+    // 한 번에 지우면 긴 트랜잭션과 락이 생기므로 배치마다 트랜잭션을 나눠 삭제
+    @Scheduled(cron = "${jwt.refresh-token.cleanup-cron:0 0 * * * *}")
+    public int deleteExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> expiredIds = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, cleanupBatchSize));
+                return expiredIds.isEmpty() ? 0 : refreshTokenRepository.deleteAllByIds(expiredIds);
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            deleted += count;
+            if (count < cleanupBatchSize) {
+                break;
+            }
+        }
+        if (deleted > 0) {
+            log.info("만료된 리프레시 토큰 {}개를 삭제했습니다.", deleted);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,207 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.config.VerifiedToken;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엑세스 토큰 폐기 목록. 기록은 DB에 남기고, JwtFilter는 메모리에서만 확인한다.
+ * 토큰 단위 폐기는 블룸 필터로 먼저 거르고 정확한 집합으로 확인하므로,
+ * 폐기되지 않은 대부분의 토큰은 비트 몇 개만 보고 통과한다.
+ * 다른 노드에서 추가된 기록은 마지막 동기화 시각보다 overlap만큼 앞선 revoked_at부터 주기적으로 다시 읽어 반영한다.
+ * IDENTITY id는 커밋 순서와 다르므로(작은 id가 나중에 커밋될 수 있음) id 기준으로 이어 읽으면 기록을 영영 놓칠 수 있다.
+ * 이미 반영한 기록을 다시 읽어도 결과는 같고, revoked_at을 찍은 뒤 overlap 안에 커밋되지 않은 기록만 놓친다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    // 처음 불러올 때는 아직 유효한 기록을 모두 읽음
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long accessTokenTtlMs;
+    private final int expectedRevocations;
+    private final int syncBatchSize;
+    private final long syncOverlapMs;
+
+    // 토큰 다이제스트 -> 토큰 만료 시각(epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    // 사용자 id -> 이 시각 이전에 발급된 토큰은 폐기(epoch millis)
+    private final Map<Long, Long> revokedUsers = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    // 다음 동기화에서 이 시각 이후에 폐기된 기록부터 읽음
+    private volatile LocalDateTime syncFrom = BEGINNING;
+
+    public TokenRevocationService(
+            TokenRevocationRepository tokenRevocationRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.access-token-ttl-ms:900000}") long accessTokenTtlMs,
+            @Value("${jwt.revocation.expected-revocations:100000}") int expectedRevocations,
+            @Value("${jwt.revocation.sync-batch-size:1000}") int syncBatchSize,
+            @Value("${jwt.revocation.sync-overlap-ms:60000}") long syncOverlapMs
+    ) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.accessTokenTtlMs = accessTokenTtlMs;
+        this.expectedRevocations = expectedRevocations;
+        this.syncBatchSize = syncBatchSize;
+        this.syncOverlapMs = syncOverlapMs;
+        this.bloomFilter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+
+        Gauge.builder("jwt.revocation.entries", revokedTokens, Map::size).tag("type", "token").register(meterRegistry);
+        Gauge.builder("jwt.revocation.entries", revokedUsers, Map::size).tag("type", "user").register(meterRegistry);
+    }
+
+    // 노드 시작 시 아직 유효한 기록을 배치 단위로 모두 읽어온 뒤 요청을 받음
+    @PostConstruct
+    public void load() {
+        int loaded = syncNewRevocations();
+        log.info("토큰 폐기 기록 {}건을 불러왔습니다.", loaded);
+    }
+
+    public boolean isRevoked(String tokenDigest, VerifiedToken verifiedToken) {
+        Long revokedBefore = revokedUsers.get(verifiedToken.getAuthUser().getId());
+        // 발급 시각(iatMs)과 폐기 시각을 밀리초로 비교하므로 폐기 직후 다시 로그인해 받은 토큰은 통과
+        if (revokedBefore != null && verifiedToken.getIssuedAt() < revokedBefore) {
+            return true;
+        }
+        return bloomFilter.mightContain(tokenDigest) && revokedTokens.containsKey(tokenDigest);
+    }
+
+    // 로그아웃, 호출하는 쪽의 트랜잭션이 커밋된 뒤 메모리에 반영됨
+    public void revokeToken(String tokenDigest, long tokenExpiresAt) {
+        TokenRevocation revocation = tokenRevocationRepository.save(
+                TokenRevocation.ofToken(tokenDigest, LocalDateTime.now(), toLocalDateTime(tokenExpiresAt)));
+        applyAfterCommit(revocation);
+    }
+
+    // 비밀번호/권한 변경, 지금까지 발급된 엑세스 토큰과 리프레시 토큰을 모두 폐기
+    public void revokeAllForUser(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.deleteAllByUserId(userId);
+        TokenRevocation revocation = tokenRevocationRepository.save(
+                TokenRevocation.ofUser(userId, now, now.plusNanos(accessTokenTtlMs * 1_000_000)));
+        applyAfterCommit(revocation);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public int syncNewRevocations() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = syncFrom;
+        long lastId = 0;
+        int synced = 0;
+        while (true) {
+            List<TokenRevocation> revocations = tokenRevocationRepository.findActiveRevokedSince(
+                    from, lastId, now, PageRequest.of(0, syncBatchSize));
+            for (TokenRevocation revocation : revocations) {
+                apply(revocation);
+                lastId = revocation.getId();
+            }
+            synced += revocations.size();
+            if (revocations.size() < syncBatchSize) {
+                break;
+            }
+        }
+        // 늦게 커밋된 기록과 노드 간 시계 차이를 다음 동기화에서 다시 읽도록 겹쳐서 읽음
+        syncFrom = now.minusNanos(syncOverlapMs * 1_000_000);
+        return synced;
+    }
+
+    // 만료된 기록은 메모리와 DB에서 지우고, 블룸 필터가 포화되면 남은 기록으로 다시 만듦
+    @Scheduled(cron = "${jwt.revocation.cleanup-cron:0 */10 * * * *}")
+    public int deleteExpiredRevocations() {
+        long nowMillis = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+        revokedUsers.values().removeIf(revokedBefore -> revokedBefore + accessTokenTtlMs <= nowMillis);
+        if (bloomFilter.isSaturated()) {
+            rebuildBloomFilter();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+        while (true) {
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> expiredIds = tokenRevocationRepository.findExpiredIds(now, PageRequest.of(0, syncBatchSize));
+                return expiredIds.isEmpty() ? 0 : tokenRevocationRepository.deleteAllByIds(expiredIds);
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            deleted += count;
+            if (count < syncBatchSize) {
+                break;
+            }
+        }
+        return deleted;
+    }
+
+    private void applyAfterCommit(TokenRevocation revocation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(revocation);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(revocation);
+            }
+        });
+    }
+
+    private synchronized void apply(TokenRevocation revocation) {
+        if (revocation.getTokenHash() != null && !revokedTokens.containsKey(revocation.getTokenHash())) {
+            // 블룸 필터를 먼저 채워야 집합에만 있고 필터에 없는 순간이 생기지 않음
+            bloomFilter.put(revocation.getTokenHash());
+            revokedTokens.put(revocation.getTokenHash(), toEpochMillis(revocation.getExpiresAt()));
+        }
+        if (revocation.getUserId() != null) {
+            revokedUsers.merge(revocation.getUserId(), toEpochMillisRoundedUp(revocation.getRevokedAt()), Math::max);
+        }
+    }
+
+    private synchronized void rebuildBloomFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revokedTokens.size() * 2), FALSE_POSITIVE_RATE);
+        revokedTokens.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // revoked_at은 마이크로초까지 저장되므로 밀리초로 올림, 폐기와 같은 밀리초 안에 발급된 토큰까지 폐기됨
+    private static long toEpochMillisRoundedUp(LocalDateTime dateTime) {
+        long epochMillis = toEpochMillis(dateTime);
+        return dateTime.getNano() % 1_000_000 == 0 ? epochMillis : epochMillis + 1;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -8,6 +8,10 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,18 +32,30 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentRequest));
     }
 
+    // If-None-Match가 현재 ETag와 같으면 목록을 읽지 않고 304
+    // ETag를 먼저 읽으므로 그 사이에 수정되면 본문이 더 새롭고, 다음 요청에서 ETag가 달라 다시 받음
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public ResponseEntity<List<CommentResponse>> getComments(
+            @PathVariable long todoId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String eTag = commentService.getCommentsETag(todoId);
+        if (ResourceVersion.matchesAny(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(commentService.getComments(todoId));
     }
 
+    // If-Match에 목록 응답의 version으로 만든 ETag("버전")를 보내면 그 사이에 다른 요청이 수정했을 때 412
     @PatchMapping("/comments/{commentId}")
     public ResponseEntity<CommentResponse> updateComment(
             @Auth AuthUser authUser,
             @PathVariable Long commentId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody CommentRequest commentRequest
     ) {
-        return ResponseEntity.ok(commentService.updateComment(authUser, commentId, commentRequest));
+        CommentResponse comment = commentService.updateComment(authUser, commentId, commentRequest, ResourceVersion.versionOf(ifMatch));
+        return ResponseEntity.ok().eTag(ResourceVersion.eTagOf(comment.getVersion())).body(comment);
     }
 
     @DeleteMapping("/comments/{commentId}")
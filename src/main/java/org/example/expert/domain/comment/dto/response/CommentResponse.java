@@ -9,10 +9,18 @@ public class CommentResponse {
     private final Long id;
     private final String contents;
     private final UserResponse user;
+    // 수정 요청의 If-Match에 쓰는 버전
+    private final Long version;
 
-    public CommentResponse(Long id, String contents, UserResponse user) {
+    public CommentResponse(Long id, String contents, UserResponse user, Long version) {
         this.id = id;
         this.contents = contents;
         this.user = user;
+        this.version = version;
+    }
+
+    // JPQL 생성자 프로젝션용
+    public CommentResponse(Long id, String contents, Long userId, String email, Long version) {
+        this(id, contents, new UserResponse(userId, email), version);
     }
 }
@@ -3,6 +3,7 @@ package org.example.expert.domain.comment.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.IdGenerators;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.entity.User;
@@ -10,11 +11,19 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_todo_id_user_id", columnList = "todo_id, user_id")
+})
 public class Comment extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id")
+    @TableGenerator(name = "comment_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "comments", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
+    // 동시에 수정하면 나중에 커밋하는 쪽이 실패
+    @Version
+    private Long version;
     private String contents;
 
     @ManyToOne(fetch = FetchType.LAZY)
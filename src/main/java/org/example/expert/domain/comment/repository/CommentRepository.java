@@ -1,6 +1,8 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,8 +12,14 @@ import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email, c.version) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // ETag용, 댓글이 삭제되면 수가 줄고 추가/수정되면 가장 최근 수정 시각이 바뀜
+    @Query("SELECT new org.example.expert.domain.common.dto.ResourceVersion(MAX(c.modifiedAt), COUNT(c)) " +
+            "FROM Comment c WHERE c.todo.id = :todoId")
+    ResourceVersion findVersionByTodoId(@Param("todoId") Long todoId);
 
     Optional<Comment> findCommentById(Long commentId);
 }
@@ -2,6 +2,7 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.exception.custom.InvalidRequestException;
+import org.example.expert.config.exception.custom.PreconditionFailedException;
 import org.example.expert.domain.comment.dto.request.CommentRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
@@ -16,7 +17,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -48,34 +48,35 @@ public class CommentService {
 
     @Transactional(readOnly = true)
     public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
-        }
-        return dtoList;
+        return commentRepository.findResponsesByTodoId(todoId);
     }
 
+    // 댓글 목록을 만들기 전에 바뀌었는지만 확인, 일정이 없으면 빈 목록과 같은 ETag
+    @Transactional(readOnly = true)
+    public String getCommentsETag(long todoId) {
+        return commentRepository.findVersionByTodoId(todoId).toETag();
+    }
+
+    // expectedVersion(If-Match)이 있으면 읽은 버전과 같을 때만 수정
     @Transactional
-    public CommentResponse updateComment(AuthUser authUser, Long commentId, CommentRequest commentRequest) {
+    public CommentResponse updateComment(AuthUser authUser, Long commentId, CommentRequest commentRequest, Long expectedVersion) {
         Comment comment = findCommentByIdOrElseThrow(commentId);
 
         if (!ObjectUtils.nullSafeEquals(comment.getUser().getId(), authUser.getId())) {
             throw new InvalidRequestException("댓글 작성자가 아닙니다.");
         }
+        if (expectedVersion != null && !expectedVersion.equals(comment.getVersion())) {
+            throw new PreconditionFailedException("댓글이 다른 요청에서 먼저 수정되었습니다.");
+        }
         comment.update(commentRequest.getContents());
+        // 충돌을 커밋 전에 확인하고 응답에 새 버전을 담기 위해 바로 UPDATE
+        commentRepository.flush();
 
         return new CommentResponse(
                 comment.getId(),
                 comment.getContents(),
-                new UserResponse(authUser.getId(), authUser.getEmail())
+                new UserResponse(authUser.getId(), authUser.getEmail()),
+                comment.getVersion()
         );
     }
 
@@ -0,0 +1,80 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.example.expert.config.exception.custom.PreconditionFailedException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 응답을 만들지 않고 조회 결과가 바뀌었는지만 확인하기 위한 값. 가장 최근 수정 시각과 행(또는 값) 수를
+ * 집계 쿼리 한 번으로 읽어 강한 ETag를 만든다. 수정 시각만으로는 알 수 없는 삭제나 수정 시각을 바꾸지 않는
+ * 일괄 UPDATE는 수로 구분한다. @Version이 있는 엔티티는 버전 자체로 ETag를 만든다. (eTagOf)
+ */
+@Getter
+public class ResourceVersion {
+
+    // 대상이 없을 때(수정 시각 null)의 ETag
+    private static final String EMPTY = "0";
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private final LocalDateTime modifiedAt;
+    private final long count;
+
+    public ResourceVersion(LocalDateTime modifiedAt, long count) {
+        this.modifiedAt = modifiedAt;
+        this.count = count;
+    }
+
+    public boolean exists() {
+        return modifiedAt != null;
+    }
+
+    public String toETag() {
+        if (modifiedAt == null) {
+            return "\"" + EMPTY + "-" + count + "\"";
+        }
+        return "\"" + Long.toHexString(modifiedAt.toEpochSecond(ZoneOffset.UTC))
+                + "." + Integer.toHexString(modifiedAt.getNano())
+                + "-" + count + "\"";
+    }
+
+    public static String eTagOf(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // If-None-Match 비교 (약한 비교: W/는 떼고 비교, 여러 값 중 하나라도 같거나 *이면 일치)
+    public static boolean matchesAny(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals(ANY) || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-Match의 버전, 헤더가 없거나 *이면 null(조건 없음)
+    // 강한 비교라 약한 ETag나 버전이 아닌 값은 어떤 버전과도 일치하지 않으므로 바로 412
+    public static Long versionOf(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // 아래에서 412
+            }
+        }
+        throw new PreconditionFailedException("If-Match 값이 현재 버전과 일치하지 않습니다.");
+    }
+}
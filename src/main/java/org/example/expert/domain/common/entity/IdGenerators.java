@@ -0,0 +1,22 @@
+package org.example.expert.domain.common.entity;
+
+/**
+ * 엔티티 id 발급 테이블(id_generators) 설정. 한 번 읽을 때 ALLOCATION_SIZE개의 id를 미리 받아두고
+ * 메모리에서 나눠주므로(pooled-lo) INSERT 전에 DB를 거치지 않고, 그래서 Hibernate가 INSERT를 배치로 묶을 수 있다.
+ * 테이블 방식이라 시퀀스가 없는 MySQL과 H2에서 같은 스키마로 동작한다. (V6__pooled_id_generators.sql)
+ * 시퀀스가 있는 DB만 쓴다면 {@code @SequenceGenerator}가 낫고, 이 테이블은 MySQL을 위한 대안이다.
+ * <p>
+ * 블록을 받을 때는 요청 트랜잭션과 별도로 커넥션 풀에서 커넥션을 하나 더 꺼내 쓴다.
+ * 그래서 커넥션 풀의 최대 크기는 동시에 INSERT하는 요청 수보다 커야 한다. (spring.datasource.hikari.maximum-pool-size)
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    // hibernate.jdbc.batch_size와 같게 두면 배치 하나를 채우는 동안 id를 한 번만 발급받음
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
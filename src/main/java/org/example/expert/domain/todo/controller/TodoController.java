@@ -4,19 +4,31 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.dto.TodoFilter;
 import org.example.expert.domain.todo.dto.request.TodoRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.service.TodoBulkService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoBulkService todoBulkService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -26,26 +38,77 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // 여러 일정을 한 번에 저장, 요청 순서대로 저장 결과를 반환 (하나라도 검증에 실패하면 모두 저장하지 않음)
+    @PostMapping("/todos/bulk")
+    public ResponseEntity<List<TodoSaveResponse>> saveTodos(
+            @Auth AuthUser authUser,
+            @RequestBody List<TodoRequest> todoRequests
+    ) {
+        return ResponseEntity.ok(todoBulkService.saveTodos(authUser, todoRequests));
+    }
+
+    // 날씨, 작성자, 수정일 범위(modifiedFrom 이상 modifiedTo 미만)로 거를 수 있으며 모두 생략 가능
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime modifiedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime modifiedTo
+    ) {
+        TodoFilter filter = new TodoFilter(weather, userId, modifiedFrom, modifiedTo);
+        return ResponseEntity.ok(todoService.getTodos(filter, page, size));
+    }
+
+    // cursor 파라미터가 있으면 커서 방식, 첫 페이지는 빈 값(?cursor=)으로 요청하고 이후엔 응답의 nextCursor를 그대로 전달
+    @GetMapping(value = "/todos", params = "cursor")
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
+    // 제목과 내용에서 검색, 검색어는 공백으로 구분하며 모두 포함하는(접두어 일치 포함) 일정을 관련도순으로 반환
+    @GetMapping("/todos/search")
+    public ResponseEntity<Page<TodoResponse>> searchTodos(
+            @RequestParam String query,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoService.searchTodos(query, page, size));
     }
 
+    // If-None-Match가 DB의 현재 버전과 같으면 응답을 만들지 않고 304
+    // 200일 때 ETag는 본문의 버전으로 붙여 캐시된 응답이 DB보다 늦더라도 ETag와 본문이 어긋나지 않음
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(
+            @PathVariable long todoId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String eTag = todoService.getTodoETag(todoId);
+        if (ResourceVersion.matchesAny(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+        }
+        TodoResponse todo = todoService.getTodo(todoId);
+        // 캐시된 응답이 DB보다 오래됐다면 그 버전으로 수정하면 계속 412가 나므로 다시 읽음
+        if (todo.getVersion() < ResourceVersion.versionOf(eTag)) {
+            todo = todoService.reloadTodo(todoId);
+        }
+        return ResponseEntity.ok().eTag(ResourceVersion.eTagOf(todo.getVersion())).cacheControl(CacheControl.noCache()).body(todo);
     }
 
+    // If-Match에 조회 때 받은 ETag를 보내면 그 사이에 다른 요청이 수정했을 때 412
     @PatchMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> updateTodo(
             @Auth AuthUser authUser,
             @PathVariable Long todoId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody TodoRequest todoRequest
     ) {
-        return ResponseEntity.ok(todoService.updateTodo(authUser, todoId, todoRequest));
+        TodoResponse todo = todoService.updateTodo(authUser, todoId, todoRequest, ResourceVersion.versionOf(ifMatch));
+        return ResponseEntity.ok().eTag(ResourceVersion.eTagOf(todo.getVersion())).body(todo);
     }
 
     @DeleteMapping("/todos/{todoId}")
@@ -0,0 +1,20 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 날씨 보강 대기 중인 일정. 일정을 만든 날의 날씨로 채우기 위해 생성 시각만 함께 읽는다.
+ */
+@Getter
+public class PendingWeatherTodo {
+
+    private final Long id;
+    private final LocalDateTime createdAt;
+
+    public PendingWeatherTodo(Long id, LocalDateTime createdAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.config.exception.custom.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 할일 목록의 다음 페이지 시작 위치. 마지막으로 받은 할일의 (modifiedAt, id)를 담는다.
+ * 클라이언트에는 내용을 알 필요가 없는 불투명한 문자열(Base64URL)로만 내보낸다.
+ */
+@Getter
+public class TodoCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime modifiedAt;
+    private final Long id;
+
+    public TodoCursor(LocalDateTime modifiedAt, Long id) {
+        this.modifiedAt = modifiedAt;
+        this.id = id;
+    }
+
+    public static TodoCursor from(TodoResponse todo) {
+        return new TodoCursor(todo.getModifiedAt(), todo.getId());
+    }
+
+    public static TodoCursor decode(String token) {
+        try {
+            String decoded = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidRequestException("잘못된 커서입니다.");
+            }
+            return new TodoCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString((modifiedAt.toString() + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.config.exception.custom.InvalidRequestException;
+
+import java.time.LocalDateTime;
+
+/**
+ * 할일 목록 조회 조건. 값이 있는 조건만 AND로 적용하고, 수정일 범위는 [modifiedFrom, modifiedTo) 이다.
+ */
+@Getter
+public class TodoFilter {
+
+    private final String weather;
+    private final Long userId;
+    private final LocalDateTime modifiedFrom;
+    private final LocalDateTime modifiedTo;
+
+    public TodoFilter(String weather, Long userId, LocalDateTime modifiedFrom, LocalDateTime modifiedTo) {
+        if (modifiedFrom != null && modifiedTo != null && !modifiedFrom.isBefore(modifiedTo)) {
+            throw new InvalidRequestException("수정일 검색 시작 시각은 종료 시각보다 앞서야 합니다.");
+        }
+        this.weather = weather == null || weather.isBlank() ? null : weather;
+        this.userId = userId;
+        this.modifiedFrom = modifiedFrom;
+        this.modifiedTo = modifiedTo;
+    }
+
+    public boolean isEmpty() {
+        return weather == null && userId == null && modifiedFrom == null && modifiedTo == null;
+    }
+}
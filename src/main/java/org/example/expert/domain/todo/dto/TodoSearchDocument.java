@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인에 넣을 일정의 제목과 내용. 색인을 DB에서 다시 만들 때 JPQL 생성자 프로젝션으로 읽는다.
+ */
+@Getter
+public class TodoSearchDocument {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final LocalDateTime modifiedAt;
+
+    public TodoSearchDocument(Long id, String title, String contents, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoCursorResponse {
+
+    private final List<TodoResponse> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public TodoCursorResponse(List<TodoResponse> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
@@ -15,8 +15,10 @@ public class TodoResponse {
     private final UserResponse user;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    // 수정 요청의 If-Match와 조회 응답의 ETag에 쓰는 버전
+    private final Long version;
 
-    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt, Long version) {
         this.id = id;
         this.title = title;
         this.contents = contents;
@@ -24,5 +26,11 @@ public class TodoResponse {
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.version = version;
+    }
+
+    // JPQL 생성자 프로젝션용
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String email, LocalDateTime createdAt, LocalDateTime modifiedAt, Long version) {
+        this(id, title, contents, weather, new UserResponse(userId, email), createdAt, modifiedAt, version);
     }
 }
@@ -3,22 +3,37 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.config.config.SecondLevelCacheConfig;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.entity.IdGenerators;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.TODO_REGION)
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at DESC, id DESC"),
+        @Index(name = "idx_todos_user_id_modified_at_id", columnList = "user_id, modified_at DESC, id DESC"),
+        @Index(name = "idx_todos_weather_modified_at_id", columnList = "weather, modified_at DESC, id DESC")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "todo_id")
+    @TableGenerator(name = "todo_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "todos", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
+    // 동시에 수정하면 나중에 커밋하는 쪽이 실패 (일괄 UPDATE도 직접 올림: TodoRepository.updatePendingWeather)
+    @Version
+    private Long version;
     private String title;
     private String contents;
     private String weather;
@@ -27,10 +42,12 @@ public class Todo extends Timestamped {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
+    // 삭제는 댓글/담당자까지 벌크 DELETE로 지우므로 REMOVE는 전파하지 않음 (TodoRepository.deleteWithChildrenById)
+    @OneToMany(mappedBy = "todo")
     private List<Comment> comments = new ArrayList<>();
 
-    @OneToMany(mappedBy = "todo", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.TODO_MANAGERS_REGION)
+    @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
     private List<Manager> managers = new ArrayList<>();
 
     public Todo(Long id) {
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface TodoQueryRepository {
+
+    Page<TodoResponse> findTodoResponses(TodoFilter filter, Pageable pageable);
+
+    int deleteWithChildrenById(Long todoId);
+
+    int deleteAllWithChildrenByUserId(Long userId);
+}
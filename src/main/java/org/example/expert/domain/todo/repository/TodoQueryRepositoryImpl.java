@@ -0,0 +1,114 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 값이 있는 조건만 WHERE에 넣는 동적 쿼리. 조건 조합별로 (조건 컬럼, modified_at DESC, id DESC)
+ * 복합 인덱스가 있어 범위를 좁힌 뒤 정렬된 순서 그대로 읽는다. (V5__todo_filter_indexes.sql)
+ */
+public class TodoQueryRepositoryImpl implements TodoQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TodoResponse> findTodoResponses(TodoFilter filter, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<TodoResponse> query = cb.createQuery(TodoResponse.class);
+        Root<Todo> todo = query.from(Todo.class);
+        Join<Todo, User> user = todo.join("user");
+        query.select(cb.construct(TodoResponse.class,
+                        todo.get("id"), todo.get("title"), todo.get("contents"), todo.get("weather"),
+                        user.get("id"), user.get("email"), todo.get("createdAt"), todo.get("modifiedAt"), todo.get("version")))
+                .where(predicates(cb, todo, filter))
+                .orderBy(cb.desc(todo.get("modifiedAt")), cb.desc(todo.get("id")));
+
+        List<TodoResponse> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // 마지막 페이지처럼 개수를 알 수 있으면 COUNT 쿼리는 실행하지 않음
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(filter));
+    }
+
+    // 댓글/담당자를 엔티티로 읽어 한 건씩 지우지 않고 DELETE 세 번으로 지움, 외래 키가 todos를 가리키므로 자식부터
+    // 벌크 DELETE는 대상 엔티티의 2차 캐시 영역(Todo.managers 컬렉션 포함)을 Hibernate가 비움
+    @Override
+    public int deleteWithChildrenById(Long todoId) {
+        entityManager.createQuery("DELETE FROM Comment c WHERE c.todo.id = :todoId")
+                .setParameter("todoId", todoId)
+                .executeUpdate();
+        entityManager.createQuery("DELETE FROM Manager m WHERE m.todo.id = :todoId")
+                .setParameter("todoId", todoId)
+                .executeUpdate();
+        int deleted = entityManager.createQuery("DELETE FROM Todo t WHERE t.id = :todoId")
+                .setParameter("todoId", todoId)
+                .executeUpdate();
+        // 조회해 둔 일정이 삭제된 뒤에도 영속성 컨텍스트에 남지 않도록 비움 (@Modifying(clearAutomatically = true)와 같음)
+        entityManager.clear();
+        return deleted;
+    }
+
+    // 회원 탈퇴, deleteWithChildrenById와 같은 순서로 사용자의 일정 전체를 지움
+    // 다른 사람 일정에 남긴 댓글과 담당자 지정도 users를 가리키므로 함께 지움
+    @Override
+    public int deleteAllWithChildrenByUserId(Long userId) {
+        entityManager.createQuery("DELETE FROM Comment c " +
+                        "WHERE c.user.id = :userId OR c.todo.id IN (SELECT t.id FROM Todo t WHERE t.user.id = :userId)")
+                .setParameter("userId", userId)
+                .executeUpdate();
+        entityManager.createQuery("DELETE FROM Manager m " +
+                        "WHERE m.user.id = :userId OR m.todo.id IN (SELECT t.id FROM Todo t WHERE t.user.id = :userId)")
+                .setParameter("userId", userId)
+                .executeUpdate();
+        int deleted = entityManager.createQuery("DELETE FROM Todo t WHERE t.user.id = :userId")
+                .setParameter("userId", userId)
+                .executeUpdate();
+        entityManager.clear();
+        return deleted;
+    }
+
+    private long count(TodoFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Todo> todo = query.from(Todo.class);
+        query.select(cb.count(todo)).where(predicates(cb, todo, filter));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Predicate[] predicates(CriteriaBuilder cb, Root<Todo> todo, TodoFilter filter) {
+        List<Predicate> predicates = new ArrayList<>(4);
+        if (filter.getWeather() != null) {
+            predicates.add(cb.equal(todo.get("weather"), filter.getWeather()));
+        }
+        if (filter.getUserId() != null) {
+            predicates.add(cb.equal(todo.get("user").get("id"), filter.getUserId()));
+        }
+        if (filter.getModifiedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(todo.<LocalDateTime>get("modifiedAt"), filter.getModifiedFrom()));
+        }
+        if (filter.getModifiedTo() != null) {
+            predicates.add(cb.lessThan(todo.<LocalDateTime>get("modifiedAt"), filter.getModifiedTo()));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+}
@@ -1,25 +1,98 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.todo.dto.PendingWeatherTodo;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoQueryRepository {
 
-    @EntityGraph(attributePaths = {"user"})
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 응답에 필요한 컬럼만 DTO로 바로 읽음 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query(value = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, t.version) " +
+            "FROM Todo t JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC",
+            countQuery = "SELECT COUNT(t) FROM Todo t")
+    Page<TodoResponse> findTodoResponses(Pageable pageable);
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
+    // 커서 방식 첫 페이지, Pageable은 개수 제한에만 사용하고 COUNT 쿼리는 실행하지 않음
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, t.version) " +
+            "FROM Todo t JOIN t.user u " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findFirstPageByCursor(Pageable pageable);
+
+    // (modifiedAt, id) 인덱스를 따라 커서 바로 다음 위치부터 읽으므로 앞 페이지를 건너뛰는 비용이 없음
+    // (modifiedAt < :m OR (modifiedAt = :m AND id < :id))와 같은 조건, OR만 있으면 범위 검색으로 인덱스를 타지 못함
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, t.version) " +
+            "FROM Todo t JOIN t.user u " +
+            "WHERE t.modifiedAt <= :modifiedAt AND (t.modifiedAt < :modifiedAt OR t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    List<TodoResponse> findNextPageByCursor(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, t.version) " +
+            "FROM Todo t JOIN t.user u " +
             "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    Optional<TodoResponse> findTodoResponseById(@Param("todoId") Long todoId);
+
+    // 수정용, JPQL이라 2차 캐시를 거치지 않고 DB의 현재 버전을 읽음
+    // (커밋 직전에 읽은 이전 버전이 캐시에 남으면 If-Match가 계속 일치하지 않아 412만 반복됨)
+    @Query("SELECT t FROM Todo t WHERE t.id = :todoId")
+    Optional<Todo> findLatestById(@Param("todoId") Long todoId);
+
+    // ETag용, 응답을 만들지 않고 버전만 읽음
+    @Query("SELECT t.version FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findVersionById(@Param("todoId") Long todoId);
+
+    // 검색 결과 id들을 한 번에 응답으로 읽음, 순서는 호출하는 쪽에서 점수순으로 맞춤
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt, t.version) " +
+            "FROM Todo t JOIN t.user u " +
+            "WHERE t.id IN :todoIds")
+    List<TodoResponse> findTodoResponsesByIds(@Param("todoIds") List<Long> todoIds);
+
+    // 검색 색인 전체 재구성, id 순으로 배치 단위 읽기
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoSearchDocument(t.id, t.title, t.contents, t.modifiedAt) " +
+            "FROM Todo t " +
+            "WHERE t.id > :id " +
+            "ORDER BY t.id")
+    List<TodoSearchDocument> findSearchDocumentsAfterId(@Param("id") Long id, Pageable pageable);
+
+    // 다른 노드에서 저장/수정된 일정 동기화, (modifiedAt, id) 오름차순 커서
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoSearchDocument(t.id, t.title, t.contents, t.modifiedAt) " +
+            "FROM Todo t " +
+            "WHERE t.modifiedAt >= :modifiedAt AND (t.modifiedAt > :modifiedAt OR t.id > :id) " +
+            "ORDER BY t.modifiedAt, t.id")
+    List<TodoSearchDocument> findSearchDocumentsModifiedAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
 
     int countById(Long todoId);
+
+    // 회원 탈퇴 시 검색 색인에서 지울 일정
+    @Query("SELECT t.id FROM Todo t WHERE t.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.weather IS NULL ORDER BY t.id")
+    List<Long> findPendingWeatherIds(Pageable pageable);
+
+    // 배치 중 아직 대기 상태인 일정과 생성 시각, 만든 날짜별로 날씨를 골라 채움
+    @Query("SELECT new org.example.expert.domain.todo.dto.PendingWeatherTodo(t.id, t.createdAt) " +
+            "FROM Todo t WHERE t.id IN :todoIds AND t.weather IS NULL")
+    List<PendingWeatherTodo> findPendingWeatherTodos(@Param("todoIds") List<Long> todoIds);
+
+    @Modifying(clearAutomatically = true)
+    // 일괄 UPDATE는 @Version을 올리지 않으므로 직접 올림 (이 사이에 읽은 수정 요청은 충돌로 처리)
+    @Query("UPDATE Todo t SET t.weather = :weather, t.version = t.version + 1 WHERE t.id IN :todoIds AND t.weather IS NULL")
+    int updatePendingWeather(@Param("todoIds") List<Long> todoIds, @Param("weather") String weather);
 }
@@ -1,8 +1,11 @@
 package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.config.CacheConfig;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -10,9 +13,15 @@ public class TodoAdminService {
 
     private final TodoRepository todoRepository;
     private final TodoService todoService;
+    private final TodoFeedHead todoFeedHead;
+    private final TodoSearchIndex todoSearchIndex;
 
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TODO_RESPONSES, key = "#todoId")
     public void deleteTodo(long todoId) {
         todoService.findTodoByIdOrElseThrow(todoId);
-        todoRepository.deleteById(todoId);
+        todoRepository.deleteWithChildrenById(todoId);
+        todoFeedHead.removeAfterCommit(todoId);
+        todoSearchIndex.removeAfterCommit(todoId);
     }
 }
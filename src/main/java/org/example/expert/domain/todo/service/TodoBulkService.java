@@ -0,0 +1,124 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.exception.custom.InvalidRequestException;
+import org.example.expert.config.exception.custom.ServerException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.dto.request.TodoRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Service
+public class TodoBulkService {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TodoWeatherEnricher todoWeatherEnricher;
+    private final TodoFeedHead todoFeedHead;
+    private final TodoSearchIndex todoSearchIndex;
+    private final Validator validator;
+    private final int maxSize;
+
+    public TodoBulkService(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            TodoWeatherEnricher todoWeatherEnricher,
+            TodoFeedHead todoFeedHead,
+            TodoSearchIndex todoSearchIndex,
+            Validator validator,
+            @Value("${todo.bulk.max-size:1000}") int maxSize
+    ) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.todoWeatherEnricher = todoWeatherEnricher;
+        this.todoFeedHead = todoFeedHead;
+        this.todoSearchIndex = todoSearchIndex;
+        this.validator = validator;
+        this.maxSize = maxSize;
+    }
+
+    // 날씨는 요청 전체에 한 번만 조회, id를 미리 발급받은 일정과 담당자를 Hibernate가 테이블별 JDBC 배치로 저장
+    @Transactional
+    public List<TodoSaveResponse> saveTodos(AuthUser authUser, List<TodoRequest> todoRequests) {
+        // 비동기 보강 모드에서는 날씨 없이(대기 상태) 저장하고 커밋 이후 백그라운드에서 채움
+        boolean enrichLater = todoWeatherEnricher.isEnabled();
+        // 테이블을 갱신해야 하는 날에는 외부 API 응답을 기다리는 동안 요청 검증을 먼저 처리
+        CompletableFuture<String> weatherFuture = enrichLater
+                ? CompletableFuture.completedFuture(null)
+                : weatherClient.getTodayWeatherAsync();
+
+        validate(todoRequests);
+        String weather = awaitWeather(weatherFuture);
+
+        User user = User.fromAuthUser(authUser);
+        List<Todo> todos = todoRequests.stream()
+                .map(todoRequest -> new Todo(todoRequest.getTitle(), todoRequest.getContents(), weather, user))
+                .toList();
+        todoRepository.saveAll(todos);
+        // 커밋 이후 반영에 쓸 값이 모두 정해지도록 여기서 INSERT
+        todoRepository.flush();
+
+        UserResponse userResponse = new UserResponse(authUser.getId(), authUser.getEmail());
+        List<TodoSaveResponse> responses = new ArrayList<>(todos.size());
+        List<TodoSearchDocument> documents = new ArrayList<>(todos.size());
+        List<Long> todoIds = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            responses.add(new TodoSaveResponse(todo.getId(), todo.getTitle(), todo.getContents(), weather, userResponse));
+            documents.add(new TodoSearchDocument(todo.getId(), todo.getTitle(), todo.getContents(), todo.getModifiedAt()));
+            todoIds.add(todo.getId());
+        }
+
+        // 한 건씩 반영하지 않고 커밋 이후 한 번에
+        todoFeedHead.reloadAfterCommit();
+        todoSearchIndex.indexAllAfterCommit(documents);
+        if (enrichLater) {
+            todoWeatherEnricher.enqueueAllAfterCommit(todoIds);
+        }
+        return responses;
+    }
+
+    private String awaitWeather(CompletableFuture<String> weatherFuture) {
+        try {
+            return weatherFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+        }
+    }
+
+    private void validate(List<TodoRequest> todoRequests) {
+        if (todoRequests == null || todoRequests.isEmpty()) {
+            throw new InvalidRequestException("저장할 일정이 없습니다.");
+        }
+        if (todoRequests.size() > maxSize) {
+            throw new InvalidRequestException("한 번에 저장할 수 있는 일정은 최대 " + maxSize + "건입니다.");
+        }
+        for (int i = 0; i < todoRequests.size(); i++) {
+            TodoRequest todoRequest = todoRequests.get(i);
+            if (todoRequest == null) {
+                throw new InvalidRequestException("[" + i + "] 일정이 비어 있습니다.");
+            }
+            Set<ConstraintViolation<TodoRequest>> violations = validator.validate(todoRequest);
+            if (!violations.isEmpty()) {
+                throw new InvalidRequestException("[" + i + "] " + violations.iterator().next().getMessage());
+            }
+        }
+    }
+}
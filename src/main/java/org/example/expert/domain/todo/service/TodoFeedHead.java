@@ -0,0 +1,277 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 전체 일정 목록(modifiedAt DESC, id DESC)의 가장 앞쪽 N건을 메모리에 유지한다.
+ * 이 구간은 항상 DB의 앞쪽 K건(K는 현재 보유 건수)과 같도록 관리하므로,
+ * 요청한 페이지가 K 안에 들어오면 DB를 거치지 않고 응답하고 그보다 깊은 페이지만 DB에서 읽는다.
+ * 이 노드의 쓰기는 커밋 이후 바로 반영하고, 다른 노드의 쓰기와 반영 순서가 뒤바뀐 경우는
+ * 주기적으로 DB에서 다시 읽어 맞춘다.
+ */
+@Slf4j
+@Component
+public class TodoFeedHead {
+
+    private static final Comparator<FeedKey> NEWEST_FIRST = Comparator
+            .comparing(FeedKey::modifiedAt, Comparator.reverseOrder())
+            .thenComparing(FeedKey::id, Comparator.reverseOrder());
+
+    private final TodoRepository todoRepository;
+    private final int capacity;
+
+    private final Counter memoryCounter;
+    private final Counter databaseCounter;
+
+    // 쓰기와 다시 읽기는 이 잠금 안에서 새 Head를 만들어 교체, 읽기는 잠금 없이 게시된 Head만 봄
+    private final Object writeLock = new Object();
+    private volatile Head head = Head.notLoaded();
+
+    public TodoFeedHead(
+            TodoRepository todoRepository,
+            MeterRegistry meterRegistry,
+            @Value("${todo.feed.hot-head.size:500}") int capacity
+    ) {
+        this.todoRepository = todoRepository;
+        this.capacity = capacity;
+
+        Gauge.builder("todo.feed.hot.head.size", this, feedHead -> feedHead.head.size()).register(meterRegistry);
+        this.memoryCounter = meterRegistry.counter("todo.feed.requests", "source", "memory");
+        this.databaseCounter = meterRegistry.counter("todo.feed.requests", "source", "database");
+    }
+
+    @PostConstruct
+    public void load() {
+        reload();
+        log.info("일정 목록 앞쪽 {}건을 메모리에 올렸습니다.", head.size());
+    }
+
+    @Scheduled(fixedDelayString = "${todo.feed.hot-head.refresh-interval-ms:30000}",
+            initialDelayString = "${todo.feed.hot-head.refresh-interval-ms:30000}")
+    public void reload() {
+        synchronized (writeLock) {
+            List<TodoResponse> newest = todoRepository.findFirstPageByCursor(PageRequest.of(0, capacity));
+            long totalCount = todoRepository.count();
+            Head reloaded = new Head(totalCount);
+            newest.forEach(reloaded::append);
+            head = reloaded;
+        }
+    }
+
+    // 페이지 방식, 메모리로 응답할 수 없으면 비어 있음
+    public Optional<Page<TodoResponse>> page(int page, int size) {
+        Head current = head;
+        long offset = (long) (page - 1) * size;
+        if (!current.covers(offset + size)) {
+            databaseCounter.increment();
+            return Optional.empty();
+        }
+        memoryCounter.increment();
+        List<TodoResponse> content = current.entries.values().stream()
+                .skip(offset)
+                .limit(size)
+                .toList();
+        return Optional.of(new PageImpl<>(content, PageRequest.of(page - 1, size), current.totalCount));
+    }
+
+    // 커서 방식, 커서(null이면 처음) 다음부터 limit건, 메모리로 응답할 수 없으면 비어 있음
+    public Optional<List<TodoResponse>> after(TodoCursor cursor, int limit) {
+        Head current = head;
+        Map<FeedKey, TodoResponse> tail = cursor == null
+                ? current.entries
+                : current.entries.tailMap(new FeedKey(cursor.getModifiedAt(), cursor.getId()), false);
+        List<TodoResponse> content = tail.values().stream().limit(limit).toList();
+        // 메모리 구간 끝까지 읽었는데 DB에 더 있을 수 있으면 DB에서 읽음
+        if (content.size() < limit && !current.isComplete()) {
+            databaseCounter.increment();
+            return Optional.empty();
+        }
+        memoryCounter.increment();
+        return Optional.of(content);
+    }
+
+    public void addAfterCommit(Todo todo, UserResponse user) {
+        afterCommit(() -> apply(todo, user, true));
+    }
+
+    public void updateAfterCommit(Todo todo, UserResponse user) {
+        afterCommit(() -> apply(todo, user, false));
+    }
+
+    public void removeAfterCommit(Long todoId) {
+        afterCommit(() -> modify(next -> {
+            next.remove(todoId);
+            next.totalCount = Math.max(0, next.totalCount - 1);
+        }));
+    }
+
+    // 날씨 보강은 modifiedAt을 바꾸지 않으므로 자리는 그대로 두고 응답만 교체
+    public void updateWeatherAfterCommit(List<Long> todoIds, String weather) {
+        afterCommit(() -> modify(next -> todoIds.forEach(todoId -> next.replaceWeather(todoId, weather))));
+    }
+
+    // 여러 건이 한꺼번에 지워지는 경우(회원 탈퇴 등)는 다시 읽음
+    public void reloadAfterCommit() {
+        afterCommit(this::reload);
+    }
+
+    private void apply(Todo todo, UserResponse user, boolean created) {
+        // modifiedAt은 flush 때 정해지므로 커밋 이후에 응답을 만듦
+        TodoResponse response = new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                user,
+                todo.getCreatedAt(),
+                todo.getModifiedAt(),
+                todo.getVersion()
+        );
+        modify(next -> {
+            // 다시 읽기가 커밋된 행을 먼저 읽어온 경우는 이미 개수에 포함됨
+            if (created && !next.keys.containsKey(response.getId())) {
+                next.totalCount++;
+            }
+            next.put(response, capacity);
+        });
+    }
+
+    // 게시된 Head는 고치지 않고 복사본을 고쳐 한 번에 교체, 읽는 쪽이 목록과 건수가 어긋난 중간 상태를 보지 않음
+    private void modify(Consumer<Head> change) {
+        synchronized (writeLock) {
+            Head next = head.copy();
+            change.accept(next);
+            head = next;
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    record FeedKey(LocalDateTime modifiedAt, Long id) {
+    }
+
+    /**
+     * 메모리에 올린 앞쪽 구간. head에 게시한 뒤에는 바꾸지 않으며, 게시 전(다시 읽기, modify의 복사본)에만 고친다.
+     */
+    private static final class Head {
+
+        private final TreeMap<FeedKey, TodoResponse> entries;
+        private final Map<Long, FeedKey> keys;
+        // 음수면 아직 읽지 않은 상태
+        private long totalCount;
+
+        private Head(long totalCount) {
+            this(new TreeMap<>(NEWEST_FIRST), new HashMap<>(), totalCount);
+        }
+
+        private Head(TreeMap<FeedKey, TodoResponse> entries, Map<Long, FeedKey> keys, long totalCount) {
+            this.entries = entries;
+            this.keys = keys;
+            this.totalCount = totalCount;
+        }
+
+        static Head notLoaded() {
+            return new Head(-1);
+        }
+
+        Head copy() {
+            return new Head(new TreeMap<>(entries), new HashMap<>(keys), totalCount);
+        }
+
+        int size() {
+            return entries.size();
+        }
+
+        // DB 전체가 메모리에 있으면 어떤 페이지든 응답 가능
+        boolean isComplete() {
+            return totalCount >= 0 && size() >= totalCount;
+        }
+
+        boolean covers(long end) {
+            return totalCount >= 0 && (end <= size() || isComplete());
+        }
+
+        void put(TodoResponse todo, int capacity) {
+            FeedKey key = new FeedKey(todo.getModifiedAt(), todo.getId());
+            FeedKey existing = keys.get(todo.getId());
+            if (existing != null) {
+                if (NEWEST_FIRST.compare(key, existing) > 0) {
+                    // 늦게 도착한 이전 수정
+                    return;
+                }
+                entries.remove(existing);
+                keys.remove(todo.getId());
+            }
+            // 메모리 구간 밖(DB에만 있는 구간)에 들어갈 항목이면 넣지 않음
+            if (!isComplete() && !entries.isEmpty() && NEWEST_FIRST.compare(key, entries.lastKey()) > 0) {
+                return;
+            }
+            append(todo);
+            if (entries.size() > capacity) {
+                Map.Entry<FeedKey, TodoResponse> oldest = entries.pollLastEntry();
+                keys.remove(oldest.getKey().id());
+            }
+        }
+
+        // DB에서 최신순으로 읽은 목록을 그대로 채울 때와 put에서 사용
+        void append(TodoResponse todo) {
+            FeedKey key = new FeedKey(todo.getModifiedAt(), todo.getId());
+            entries.put(key, todo);
+            keys.put(todo.getId(), key);
+        }
+
+        void remove(Long todoId) {
+            FeedKey key = keys.remove(todoId);
+            if (key != null) {
+                entries.remove(key);
+            }
+        }
+
+        void replaceWeather(Long todoId, String weather) {
+            FeedKey key = keys.get(todoId);
+            if (key != null) {
+                // 날씨 보강 UPDATE가 버전을 1 올림
+                entries.computeIfPresent(key, (k, todo) -> new TodoResponse(
+                        todo.getId(), todo.getTitle(), todo.getContents(), weather,
+                        todo.getUser(), todo.getCreatedAt(), todo.getModifiedAt(), todo.getVersion() + 1));
+            }
+        }
+    }
+}
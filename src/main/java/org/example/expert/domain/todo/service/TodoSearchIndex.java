@@ -0,0 +1,273 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 일정 제목/내용 검색용 역색인. 시작할 때 DB에서 만들고, 이 노드의 저장/수정/삭제는 커밋 이후 바로 반영한다.
+ * 다른 노드의 저장/수정은 최근 수정된 일정을 주기적으로 다시 읽어 반영하고, 다른 노드에서 삭제된 일정은
+ * 검색 결과를 DB에서 읽을 때 걸러지면서 색인에서도 빠진다.
+ * 단어 목록이 정렬되어 있어 접두어 검색은 범위 조회 한 번이고, 색인할 일정 수와 일정당 단어 수에
+ * 상한이 있어 메모리가 일정 이상 늘지 않는다. (넘치면 가장 오래된 일정부터 뺌)
+ */
+@Slf4j
+@Component
+public class TodoSearchIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENTS_WEIGHT = 1;
+    // 접두어로만 일치한 단어는 정확히 일치한 단어보다 낮은 점수
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+    private static final int MAX_QUERY_TERMS = 8;
+
+    private final TodoRepository todoRepository;
+    private final int maxDocuments;
+    private final int maxTermsPerTodo;
+    private final int maxTermLength;
+    private final int maxPrefixExpansions;
+    private final int batchSize;
+    private final Duration syncOverlap;
+
+    // 단어 -> (일정 id -> 가중 빈도)
+    private final ConcurrentSkipListMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+    // 일정 id -> 색인된 단어, 수정/삭제 때 이전 단어를 지우는 데 사용
+    private final ConcurrentSkipListMap<Long, Set<String>> termsByTodo = new ConcurrentSkipListMap<>();
+    // ConcurrentSkipListMap.size()는 전체 순회라 따로 셈
+    private final AtomicInteger documentCount = new AtomicInteger();
+    private final Counter evictedCounter;
+
+    private volatile LocalDateTime syncedUntil = LocalDateTime.now();
+
+    public TodoSearchIndex(
+            TodoRepository todoRepository,
+            MeterRegistry meterRegistry,
+            @Value("${todo.search.max-documents:200000}") int maxDocuments,
+            @Value("${todo.search.max-terms-per-todo:200}") int maxTermsPerTodo,
+            @Value("${todo.search.max-term-length:32}") int maxTermLength,
+            @Value("${todo.search.max-prefix-expansions:64}") int maxPrefixExpansions,
+            @Value("${todo.search.batch-size:1000}") int batchSize,
+            @Value("${todo.search.sync-overlap-seconds:60}") long syncOverlapSeconds
+    ) {
+        this.todoRepository = todoRepository;
+        this.maxDocuments = maxDocuments;
+        this.maxTermsPerTodo = maxTermsPerTodo;
+        this.maxTermLength = maxTermLength;
+        this.maxPrefixExpansions = maxPrefixExpansions;
+        this.batchSize = batchSize;
+        this.syncOverlap = Duration.ofSeconds(syncOverlapSeconds);
+
+        Gauge.builder("todo.search.index.documents", documentCount, AtomicInteger::get).register(meterRegistry);
+        this.evictedCounter = meterRegistry.counter("todo.search.index.evictions");
+    }
+
+    // id 순으로 배치 단위로 읽어 색인, 상한을 넘으면 오래된 일정이 밀려나 최근 일정만 남음
+    @PostConstruct
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long lastId = 0;
+        while (true) {
+            List<TodoSearchDocument> documents = todoRepository.findSearchDocumentsAfterId(
+                    lastId, PageRequest.of(0, batchSize));
+            documents.forEach(this::index);
+            if (documents.size() < batchSize) {
+                break;
+            }
+            lastId = documents.get(documents.size() - 1).getId();
+        }
+        syncedUntil = startedAt;
+        log.info("일정 {}건으로 검색 색인을 만들었습니다.", documentCount.get());
+    }
+
+    @Scheduled(fixedDelayString = "${todo.search.sync-interval-ms:10000}",
+            initialDelayString = "${todo.search.sync-interval-ms:10000}")
+    public void syncModifiedTodos() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        // 늦게 커밋된 트랜잭션이나 노드 간 시계 차이로 modifiedAt이 지난 동기화 시각보다 앞설 수 있어 겹치게 읽음
+        LocalDateTime modifiedAt = syncedUntil.minus(syncOverlap);
+        long id = 0;
+        while (true) {
+            List<TodoSearchDocument> documents = todoRepository.findSearchDocumentsModifiedAfter(
+                    modifiedAt, id, PageRequest.of(0, batchSize));
+            documents.forEach(this::index);
+            if (documents.size() < batchSize) {
+                break;
+            }
+            TodoSearchDocument last = documents.get(documents.size() - 1);
+            modifiedAt = last.getModifiedAt();
+            id = last.getId();
+        }
+        syncedUntil = startedAt;
+    }
+
+    // 모든 검색어를 포함하는 일정 id를 점수 높은 순으로 반환, 각 검색어는 접두어로도 일치
+    public List<Long> search(String query) {
+        List<String> queryTerms = tokenize(query).distinct().limit(MAX_QUERY_TERMS).toList();
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+        int documents = Math.max(1, documentCount.get());
+        Map<Long, Double> scores = null;
+        for (String queryTerm : queryTerms) {
+            Map<Long, Double> termScores = scoreTerm(queryTerm, documents);
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((todoId, score) -> score + termScores.get(todoId));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public void indexAfterCommit(Todo todo) {
+        afterCommit(() -> index(todo.getId(), todo.getTitle(), todo.getContents()));
+    }
+
+    public void indexAllAfterCommit(List<TodoSearchDocument> documents) {
+        afterCommit(() -> documents.forEach(this::index));
+    }
+
+    public void removeAfterCommit(Long todoId) {
+        afterCommit(() -> remove(todoId));
+    }
+
+    public void removeAllAfterCommit(List<Long> todoIds) {
+        afterCommit(() -> todoIds.forEach(this::remove));
+    }
+
+    public int size() {
+        return documentCount.get();
+    }
+
+    synchronized void index(Long todoId, String title, String contents) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        // 제목 단어가 일정당 단어 상한에 먼저 들어가도록 제목부터
+        addTerms(frequencies, title, TITLE_WEIGHT);
+        addTerms(frequencies, contents, CONTENTS_WEIGHT);
+
+        removeTerms(todoId);
+        if (frequencies.isEmpty()) {
+            return;
+        }
+        if (documentCount.get() >= maxDocuments) {
+            Long oldest = termsByTodo.firstKey();
+            if (oldest > todoId) {
+                return;
+            }
+            removeTerms(oldest);
+            evictedCounter.increment();
+        }
+        frequencies.forEach((term, frequency) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(todoId, frequency));
+        termsByTodo.put(todoId, Set.copyOf(frequencies.keySet()));
+        documentCount.incrementAndGet();
+    }
+
+    synchronized void remove(Long todoId) {
+        removeTerms(todoId);
+    }
+
+    private void index(TodoSearchDocument document) {
+        index(document.getId(), document.getTitle(), document.getContents());
+    }
+
+    // 잠금 안에서만 호출
+    private void removeTerms(Long todoId) {
+        Set<String> terms = termsByTodo.remove(todoId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            postings.computeIfPresent(term, (key, todoIds) -> {
+                todoIds.remove(todoId);
+                return todoIds.isEmpty() ? null : todoIds;
+            });
+        }
+        documentCount.decrementAndGet();
+    }
+
+    // 정렬된 단어 목록에서 queryTerm 이상인 구간을 queryTerm으로 시작하는 동안만 순회 (정확히 일치하는 단어가 맨 앞)
+    private Map<Long, Double> scoreTerm(String queryTerm, int documents) {
+        Map<Long, Double> scores = new HashMap<>();
+        int expanded = 0;
+        for (Map.Entry<String, Map<Long, Integer>> entry : postings.tailMap(queryTerm, true).entrySet()) {
+            String term = entry.getKey();
+            if (!term.startsWith(queryTerm) || expanded++ >= maxPrefixExpansions) {
+                break;
+            }
+            Map<Long, Integer> todoIds = entry.getValue();
+            double idf = Math.log(1 + (double) documents / Math.max(1, todoIds.size()));
+            double factor = term.length() == queryTerm.length() ? 1 : PREFIX_MATCH_FACTOR;
+            todoIds.forEach((todoId, frequency) -> scores.merge(todoId, frequency * idf * factor, Math::max));
+        }
+        return scores;
+    }
+
+    private void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        tokenize(text).forEach(term -> {
+            if (frequencies.containsKey(term) || frequencies.size() < maxTermsPerTodo) {
+                frequencies.merge(term, weight, Integer::sum);
+            }
+        });
+    }
+
+    // 유니코드 정규화 후 소문자로, 글자/숫자가 아닌 문자를 기준으로 자름 (한글 조사는 접두어 검색으로 보완)
+    private Stream<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Stream.empty();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return Arrays.stream(NON_WORD.split(normalized))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term.length() > maxTermLength ? term.substring(0, maxTermLength) : term);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
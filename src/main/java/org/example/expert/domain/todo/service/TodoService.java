@@ -2,35 +2,59 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.config.config.CacheConfig;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.config.exception.custom.InvalidRequestException;
+import org.example.expert.config.exception.custom.PreconditionFailedException;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoFilter;
 import org.example.expert.domain.todo.dto.request.TodoRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoWeatherEnricher todoWeatherEnricher;
+    private final TodoFeedHead todoFeedHead;
+    private final TodoSearchIndex todoSearchIndex;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoRequest todoRequest) {
-        User user = User.fromAuthUser(authUser);
+        // 비동기 보강 모드에서는 날씨 없이(대기 상태) 먼저 저장하고 커밋 이후 백그라운드에서 채움
+        boolean enrichLater = todoWeatherEnricher.isEnabled();
+        String weather = enrichLater ? null : weatherClient.getTodayWeather();
 
-        String weather = weatherClient.getTodayWeather();
+        User user = User.fromAuthUser(authUser);
 
         Todo newTodo = new Todo(
                 todoRequest.getTitle(),
@@ -39,6 +63,12 @@ public class TodoService {
                 user
         );
         todoRepository.save(newTodo);
+        todoFeedHead.addAfterCommit(newTodo, new UserResponse(user.getId(), user.getEmail()));
+        todoSearchIndex.indexAfterCommit(newTodo);
+
+        if (enrichLater) {
+            todoWeatherEnricher.enqueueAfterCommit(newTodo.getId());
+        }
 
         return new TodoSaveResponse(
                 newTodo.getId(),
@@ -49,50 +79,111 @@ public class TodoService {
         );
     }
 
+    // 앞쪽 페이지는 메모리에서, 그보다 깊은 페이지만 DB에서 읽음
     public Page<TodoResponse> getTodos(int page, int size) {
-        Pageable pageable = PageRequest.of(page - 1, size);
+        return todoFeedHead.page(page, size)
+                .orElseGet(() -> todoRepository.findTodoResponses(PageRequest.of(page - 1, size)));
+    }
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+    // 조건이 없으면 전체 목록과 같음, 메모리 앞부분은 전체 목록만 담고 있어 조건이 있으면 항상 DB에서 읽음
+    public Page<TodoResponse> getTodos(TodoFilter filter, int page, int size) {
+        if (filter.isEmpty()) {
+            return getTodos(page, size);
+        }
+        return todoRepository.findTodoResponses(filter, PageRequest.of(page - 1, size));
+    }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+    // 커서가 없으면 첫 페이지, 한 건 더 읽어서 다음 페이지가 있는지 판단 (전체 개수는 세지 않음)
+    public TodoCursorResponse getTodosByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        Pageable limit = PageRequest.of(0, size + 1);
+        TodoCursor todoCursor = ObjectUtils.isEmpty(cursor) ? null : TodoCursor.decode(cursor);
+
+        List<TodoResponse> todos = todoFeedHead.after(todoCursor, size + 1).orElseGet(() -> todoCursor == null
+                ? todoRepository.findFirstPageByCursor(limit)
+                : todoRepository.findNextPageByCursor(todoCursor.getModifiedAt(), todoCursor.getId(), limit));
+
+        boolean hasNext = todos.size() > size;
+        List<TodoResponse> page = hasNext ? todos.subList(0, size) : todos;
+        String nextCursor = hasNext ? TodoCursor.from(page.get(size - 1)).encode() : null;
+
+        return new TodoCursorResponse(page, nextCursor);
     }
 
+    // 색인에서 점수순 id를 얻고 요청한 페이지의 일정만 DB에서 읽음
+    public Page<TodoResponse> searchTodos(String query, int page, int size) {
+        if (!StringUtils.hasText(query)) {
+            throw new InvalidRequestException("검색어를 입력해 주세요.");
+        }
+        Pageable pageable = PageRequest.of(page - 1, size);
+        List<Long> rankedIds = todoSearchIndex.search(query);
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(from, Math.min(from + size, rankedIds.size()));
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, rankedIds.size());
+        }
+
+        Map<Long, TodoResponse> todosById = todoRepository.findTodoResponsesByIds(pageIds).stream()
+                .collect(Collectors.toMap(TodoResponse::getId, Function.identity()));
+        List<TodoResponse> content = new ArrayList<>(pageIds.size());
+        for (Long todoId : pageIds) {
+            TodoResponse todo = todosById.get(todoId);
+            if (todo == null) {
+                // 다른 노드에서 삭제되어 색인에만 남아 있던 일정
+                todoSearchIndex.remove(todoId);
+                continue;
+            }
+            content.add(todo);
+        }
+        return new PageImpl<>(content, pageable, rankedIds.size());
+    }
+
+    // 같은 키의 동시 미스는 한 번만 조회 (sync), 수정/삭제 시 커밋 이후에 제거
+    @Cacheable(cacheNames = CacheConfig.TODO_RESPONSES, key = "#todoId", sync = true)
     public TodoResponse getTodo(long todoId) {
-        Todo todo = findTodoByIdOrElseThrow(todoId);
+        return todoRepository.findTodoResponseById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
 
-        User user = todo.getUser();
+    // 캐시된 응답이 DB보다 오래된 경우(커밋 직전에 읽은 값이 제거 이후에 다시 채워진 경우) 다시 읽어 바꿔 넣음
+    @CachePut(cacheNames = CacheConfig.TODO_RESPONSES, key = "#todoId")
+    public TodoResponse reloadTodo(long todoId) {
+        return todoRepository.findTodoResponseById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+    }
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+    // 응답을 만들기 전에 바뀌었는지만 확인, 캐시된 응답과 무관하게 항상 DB 기준
+    public String getTodoETag(long todoId) {
+        return todoRepository.findVersionById(todoId)
+                .map(ResourceVersion::eTagOf)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
     }
 
+    // expectedVersion(If-Match)이 있으면 읽은 버전과 같을 때만 수정
+    // 없더라도 읽은 뒤 다른 요청이 먼저 커밋했다면 flush에서 실패 (OptimisticLockingFailureException, 412)
     @Transactional
-    public TodoResponse updateTodo(AuthUser authUser, Long todoId, TodoRequest todoRequest) {
-        Todo todo = findTodoByIdOrElseThrow(todoId);
+    @CacheEvict(cacheNames = CacheConfig.TODO_RESPONSES, key = "#todoId")
+    public TodoResponse updateTodo(AuthUser authUser, Long todoId, TodoRequest todoRequest, Long expectedVersion) {
+        Todo todo = todoRepository.findLatestById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
         if (!ObjectUtils.nullSafeEquals(todo.getUser().getId(), authUser.getId())) {
             throw new InvalidRequestException("일정 작성자가 아닙니다.");
         }
+        if (expectedVersion != null && !expectedVersion.equals(todo.getVersion())) {
+            throw new PreconditionFailedException("일정이 다른 요청에서 먼저 수정되었습니다.");
+        }
 
         String todoTitle = todoRequest.getTitle() == null ? todo.getTitle() : todoRequest.getTitle();
         String todoContents = todoRequest.getContents() == null ? todo.getContents() : todoRequest.getContents();
 
         todo.update(todoTitle, todoContents);
+        // 충돌을 커밋 전에 확인하고 응답에 새 버전과 수정 시각을 담기 위해 바로 UPDATE
+        todoRepository.flush();
+        todoFeedHead.updateAfterCommit(todo, new UserResponse(authUser.getId(), authUser.getEmail()));
+        todoSearchIndex.indexAfterCommit(todo);
 
         return new TodoResponse(
                 todo.getId(),
@@ -101,22 +192,33 @@ public class TodoService {
                 todo.getWeather(),
                 new UserResponse(authUser.getId(), authUser.getEmail()),
                 todo.getCreatedAt(),
-                todo.getModifiedAt()
+                todo.getModifiedAt(),
+                todo.getVersion()
         );
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TODO_RESPONSES, key = "#todoId")
     public void deleteTodo(Long userId, Long todoId) {
         Todo todo = findTodoByIdOrElseThrow(todoId);
 
         if (!ObjectUtils.nullSafeEquals(todo.getUser().getId(), userId)) {
             throw new InvalidRequestException("일정 작성자가 아닙니다.");
         }
-        todoRepository.delete(todo);
+        todoRepository.deleteWithChildrenById(todoId);
+        todoFeedHead.removeAfterCommit(todoId);
+        todoSearchIndex.removeAfterCommit(todoId);
+    }
+
+    public void validateTodoExists(long todoId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
     }
 
+    // 2차 캐시를 거치도록 JPQL 대신 findById 사용, 작성자는 필요할 때 지연 로딩(역시 2차 캐시)
     public Todo findTodoByIdOrElseThrow(long todoId) {
-        return todoRepository.findByIdWithUser(todoId)
+        return todoRepository.findById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
     }
 }
@@ -0,0 +1,265 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.config.CacheConfig;
+import org.example.expert.config.exception.custom.ServerException;
+import org.example.expert.domain.todo.dto.PendingWeatherTodo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 일정 저장 트랜잭션 밖에서 날씨를 채우는 백그라운드 파이프라인.
+ * 비동기 모드에서는 일정이 날씨 없이(대기 상태) 저장되고, 커밋 이후 큐에 들어간 일정들을
+ * 워커가 배치 단위로 모아 만든 날짜별로 한 번의 날씨 조회와 한 번의 UPDATE로 채운다.
+ * 장애로 며칠 대기한 일정도 보강하는 날이 아니라 만든 날의 날씨를 받는다.
+ */
+@Slf4j
+@Component
+public class TodoWeatherEnricher {
+
+    private static final long RETRY_BASE_DELAY_MS = 1000L;
+
+    private final WeatherClient weatherClient;
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache todoResponseCache;
+    private final TodoFeedHead todoFeedHead;
+
+    private final boolean enabled;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final BlockingQueue<PendingTodo> queue;
+    // 큐에 들어있는 일정 id, 같은 일정이 중복으로 쌓이지 않도록 함
+    private final Set<Long> queuedIds = ConcurrentHashMap.newKeySet();
+
+    private final Counter enrichedCounter;
+    private final Counter retriedCounter;
+    private final Counter droppedCounter;
+
+    private ExecutorService workers;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    public TodoWeatherEnricher(
+            WeatherClient weatherClient,
+            TodoRepository todoRepository,
+            TransactionTemplate transactionTemplate,
+            CacheManager cacheManager,
+            TodoFeedHead todoFeedHead,
+            MeterRegistry meterRegistry,
+            @Value("${weather.enrichment.async:false}") boolean enabled,
+            @Value("${weather.enrichment.workers:2}") int workerCount,
+            @Value("${weather.enrichment.queue-capacity:10000}") int queueCapacity,
+            @Value("${weather.enrichment.batch-size:100}") int batchSize,
+            @Value("${weather.enrichment.max-attempts:5}") int maxAttempts
+    ) {
+        this.weatherClient = weatherClient;
+        this.todoRepository = todoRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.todoResponseCache = cacheManager.getCache(CacheConfig.TODO_RESPONSES);
+        this.todoFeedHead = todoFeedHead;
+        this.enabled = enabled;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("weather.enrichment.backlog", queue, BlockingQueue::size).register(meterRegistry);
+        this.enrichedCounter = meterRegistry.counter("weather.enrichment.todos", "result", "enriched");
+        this.retriedCounter = meterRegistry.counter("weather.enrichment.todos", "result", "retried");
+        this.droppedCounter = meterRegistry.counter("weather.enrichment.todos", "result", "dropped");
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "weather-enricher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runWorker);
+        }
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "weather-enricher-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+        if (retryScheduler != null) {
+            retryScheduler.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getBacklog() {
+        return queue.size();
+    }
+
+    // 커밋이 끝난 뒤에 큐에 넣어야 워커가 아직 보이지 않는 행을 조회하지 않음
+    public void enqueueAfterCommit(Long todoId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(new PendingTodo(todoId, 0));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(new PendingTodo(todoId, 0));
+            }
+        });
+    }
+
+    public void enqueueAllAfterCommit(List<Long> todoIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            todoIds.forEach(todoId -> enqueue(new PendingTodo(todoId, 0)));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                todoIds.forEach(todoId -> enqueue(new PendingTodo(todoId, 0)));
+            }
+        });
+    }
+
+    // 큐가 가득 찼거나 재시도를 모두 소진해 대기 상태로 남은 일정을 주기적으로 다시 넣음
+    @Scheduled(fixedDelayString = "${weather.enrichment.sweep-interval-ms:60000}")
+    public void sweepPendingTodos() {
+        if (!running) {
+            return;
+        }
+        int capacity = queue.remainingCapacity();
+        if (capacity == 0) {
+            return;
+        }
+        List<Long> pendingIds = todoRepository.findPendingWeatherIds(PageRequest.of(0, capacity));
+        for (Long todoId : pendingIds) {
+            enqueue(new PendingTodo(todoId, 0));
+        }
+    }
+
+    private void enqueue(PendingTodo pendingTodo) {
+        if (!queuedIds.add(pendingTodo.todoId())) {
+            return;
+        }
+        if (!queue.offer(pendingTodo)) {
+            queuedIds.remove(pendingTodo.todoId());
+            droppedCounter.increment();
+            log.warn("날씨 보강 큐가 가득 찼습니다. 일정 {}은 다음 스윕에서 처리됩니다.", pendingTodo.todoId());
+        }
+    }
+
+    private void runWorker() {
+        List<PendingTodo> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingTodo first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batch.forEach(pendingTodo -> queuedIds.remove(pendingTodo.todoId()));
+
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void process(List<PendingTodo> batch) {
+        List<Long> todoIds = batch.stream().map(PendingTodo::todoId).toList();
+        try {
+            Map<LocalDate, List<Long>> idsByDate = todoRepository.findPendingWeatherTodos(todoIds).stream()
+                    .collect(Collectors.groupingBy(todo -> todo.getCreatedAt().toLocalDate(), LinkedHashMap::new,
+                            Collectors.mapping(PendingWeatherTodo::getId, Collectors.toList())));
+            // 장애 중 대체 값이 저장되지 않도록 실제 날씨를 얻지 못하면 재시도로 넘김
+            Map<LocalDate, String> weatherByDate = new LinkedHashMap<>();
+            for (LocalDate date : idsByDate.keySet()) {
+                weatherByDate.put(date, weatherClient.findWeather(date)
+                        .orElseThrow(() -> new ServerException("날씨 데이터를 가져올 수 없습니다.")));
+            }
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (Map.Entry<LocalDate, List<Long>> entry : idsByDate.entrySet()) {
+                    String weather = weatherByDate.get(entry.getKey());
+                    count += todoRepository.updatePendingWeather(entry.getValue(), weather);
+                    // 날씨 없이 캐시된 응답은 커밋 이후 제거
+                    entry.getValue().forEach(todoResponseCache::evict);
+                    todoFeedHead.updateWeatherAfterCommit(entry.getValue(), weather);
+                }
+                return count;
+            });
+            enrichedCounter.increment(updated == null ? 0 : updated);
+        } catch (RuntimeException e) {
+            log.warn("일정 {}건의 날씨 보강에 실패했습니다.", todoIds.size(), e);
+            batch.forEach(this::scheduleRetry);
+        }
+    }
+
+    private void scheduleRetry(PendingTodo pendingTodo) {
+        int attempts = pendingTodo.attempts() + 1;
+        if (attempts >= maxAttempts || retryScheduler == null) {
+            // 대기 상태로 남겨두고 스윕에서 다시 시도
+            return;
+        }
+        retriedCounter.increment();
+        long delay = RETRY_BASE_DELAY_MS << Math.min(attempts, 10);
+        retryScheduler.schedule(
+                () -> enqueue(new PendingTodo(pendingTodo.todoId(), attempts)),
+                delay, TimeUnit.MILLISECONDS);
+    }
+
+    record PendingTodo(Long todoId, int attempts) {
+    }
+}
@@ -4,22 +4,30 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.config.config.SecondLevelCacheConfig;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.entity.IdGenerators;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_REGION)
 @NoArgsConstructor
 @Table(name = "users")
 public class User extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(name = "user_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "users", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
     @Column(unique = true)
     private String email;
@@ -27,7 +35,8 @@ public class User extends Timestamped {
     @Enumerated(EnumType.STRING)
     private UserRole userRole;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE)
+    // 탈퇴는 일정과 댓글/담당자까지 벌크 DELETE로 지우므로 REMOVE는 전파하지 않음 (TodoRepository.deleteAllWithChildrenByUserId)
+    @OneToMany(mappedBy = "user")
     private List<Todo> todos = new ArrayList<>();
 
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -1,11 +1,27 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // ETag용, 한 행만 읽는 집계라 사용자가 없어도 (null, 0)이 나옴
+    @Query("SELECT new org.example.expert.domain.common.dto.ResourceVersion(MAX(u.modifiedAt), COUNT(u)) " +
+            "FROM User u WHERE u.id = :userId")
+    ResourceVersion findVersionById(@Param("userId") Long userId);
+
+    // 그 사이에 비밀번호가 바뀌었다면 덮어쓰지 않음
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
 }
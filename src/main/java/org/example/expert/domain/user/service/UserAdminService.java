@@ -1,6 +1,7 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -12,10 +13,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserAdminService {
 
     private final UserService userService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Transactional
     public void changeUserRole(long userId, UserRoleChangeRequest userRoleChangeRequest) {
         User user = userService.findUserByIdOrElseThrow(userId);
         user.updateRole(UserRole.of(userRoleChangeRequest.getRole()));
+        // 토큰에 담긴 이전 권한이 계속 쓰이지 않도록 폐기
+        tokenRevocationService.revokeAllForUser(user.getId());
     }
 }
@@ -1,22 +1,35 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.config.CacheConfig;
 import org.example.expert.config.config.PasswordEncoder;
 import org.example.expert.config.exception.custom.InvalidRequestException;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoFeedHead;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.request.UserDeleteRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService tokenRevocationService;
+    private final TodoFeedHead todoFeedHead;
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoRepository todoRepository;
 
     @Transactional(readOnly = true)
     public UserResponse getUser(long userId) {
@@ -24,6 +37,15 @@ public class UserService {
         return new UserResponse(user.getId(), user.getEmail());
     }
 
+    @Transactional(readOnly = true)
+    public String getUserETag(long userId) {
+        ResourceVersion version = userRepository.findVersionById(userId);
+        if (!version.exists()) {
+            throw new InvalidRequestException("User not found");
+        }
+        return version.toETag();
+    }
+
     @Transactional
     public void changePassword(
             long userId,
@@ -40,9 +62,13 @@ public class UserService {
         }
 
         user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        // 기존 비밀번호로 발급된 토큰은 더 이상 쓸 수 없도록 폐기
+        tokenRevocationService.revokeAllForUser(user.getId());
     }
 
     @Transactional
+    // 작성한 일정이 함께 삭제되므로 일정 응답 캐시를 비움 (탈퇴는 드물어 키를 모으지 않고 전체 삭제)
+    @CacheEvict(cacheNames = CacheConfig.TODO_RESPONSES, allEntries = true)
     public void deleteUser(
             Long userId,
             UserDeleteRequest userDeleteRequest) {
@@ -51,7 +77,13 @@ public class UserService {
         if (!passwordEncoder.matches(userDeleteRequest.getPassword(), user.getPassword())) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
+        List<Long> todoIds = todoRepository.findIdsByUserId(user.getId());
+        // users를 가리키는 일정/댓글/담당자와 리프레시 토큰을 먼저 지우고, 남은 엑세스 토큰은 폐기
+        todoRepository.deleteAllWithChildrenByUserId(user.getId());
+        tokenRevocationService.revokeAllForUser(user.getId());
         userRepository.delete(user);
+        todoFeedHead.reloadAfterCommit();
+        todoSearchIndex.removeAllAfterCommit(todoIds);
     }
 
     public User findUserByIdOrElseThrow(long userId) {
@@ -0,0 +1,47 @@
+-- 마이그레이션 도입 전 ddl-auto: update로 만들어져 있던 스키마 (기존 DB는 baseline-on-migrate로 이 버전을 건너뜀)
+-- 그 뒤에 추가된 테이블과 인덱스는 V2부터 따로 만듦
+create table users (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    modified_at datetime(6),
+    email varchar(255),
+    password varchar(255),
+    user_role enum ('ADMIN','USER'),
+    primary key (id)
+) engine=InnoDB;
+
+create table todos (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    modified_at datetime(6),
+    user_id bigint not null,
+    contents varchar(255),
+    title varchar(255),
+    weather varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table comments (
+    created_at datetime(6),
+    id bigint not null auto_increment,
+    modified_at datetime(6),
+    todo_id bigint not null,
+    user_id bigint not null,
+    contents varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table managers (
+    id bigint not null auto_increment,
+    todo_id bigint not null,
+    user_id bigint not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table todos add constraint FK9605g76a1dggbvs18f2r80gvu foreign key (user_id) references users (id);
+alter table comments add constraint FKhq2jvyd0htxaj4avgceuigt4c foreign key (todo_id) references todos (id);
+alter table comments add constraint FK8omq0tc18jd43bu5tjh6jvraq foreign key (user_id) references users (id);
+alter table managers add constraint FKhniowui3ft3l9sdaijwv18id foreign key (todo_id) references todos (id);
+alter table managers add constraint FKsp1db43yf1nqhswrpbwmlnhb9 foreign key (user_id) references users (id);
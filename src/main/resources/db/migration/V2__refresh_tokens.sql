@@ -0,0 +1,12 @@
+-- 리프레시 토큰 (RefreshToken), 토큰 원문 대신 SHA-256 해시만 저장
+create table refresh_tokens (
+    expires_at datetime(6) not null,
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    token_hash varchar(64) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table refresh_tokens add constraint UKo2mlirhldriil2y7krapq4frt unique (token_hash);
+create index idx_refresh_tokens_expires_at on refresh_tokens (expires_at);
+alter table refresh_tokens add constraint FK1lih5y2npsf8u5o3vhdb9y0os foreign key (user_id) references users (id);
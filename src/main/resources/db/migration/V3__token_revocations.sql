@@ -0,0 +1,14 @@
+-- 엑세스 토큰 폐기 기록 (TokenRevocation), 토큰 단위는 token_hash, 사용자 단위는 user_id
+create table token_revocations (
+    expires_at datetime(6) not null,
+    id bigint not null auto_increment,
+    revoked_at datetime(6) not null,
+    user_id bigint,
+    token_hash varchar(64),
+    primary key (id)
+) engine=InnoDB;
+
+create index idx_token_revocations_expires_at on token_revocations (expires_at);
+
+-- TokenRevocationRepository.findActiveRevokedSince: 마지막 동기화 시각보다 조금 앞선 revoked_at부터 다시 읽음
+create index idx_token_revocations_revoked_at on token_revocations (revoked_at);
@@ -0,0 +1,11 @@
+-- CommentRepository.findByTodoIdWithUser: todo_id로 거르고 user_id로 users와 조인
+create index idx_comments_todo_id_user_id on comments (todo_id, user_id);
+
+-- ManagerRepository.findByTodoIdWithUser: todo_id로 거르고 user_id로 users와 조인
+create index idx_managers_todo_id_user_id on managers (todo_id, user_id);
+
+-- TodoRepository.findPendingWeatherIds: weather IS NULL을 id 순서로 읽음
+create index idx_todos_weather_id on todos (weather, id);
+
+-- TodoRepository 목록 조회(페이지, 커서): modified_at DESC, id DESC 순서 그대로 인덱스를 읽음
+create index idx_todos_modified_at_id on todos (modified_at desc, id desc);
@@ -0,0 +1,9 @@
+-- TodoQueryRepository 필터 조회: 같음 조건 컬럼으로 범위를 좁히고 modified_at DESC, id DESC 순서 그대로 읽음
+-- 작성자와 날씨를 함께 거르면 보통 더 선택적인 작성자 인덱스를 사용
+-- 작성자 인덱스는 user_id 외래 키 인덱스 역할도 함
+create index idx_todos_user_id_modified_at_id on todos (user_id, modified_at desc, id desc);
+create index idx_todos_weather_modified_at_id on todos (weather, modified_at desc, id desc);
+
+-- (weather, id)는 날씨 조건 목록 조회에서 위 인덱스 대신 선택되어 정렬이 생기므로 제거
+-- TodoRepository.findPendingWeatherIds(weather IS NULL)는 위 인덱스로 범위를 찾음 (대기 상태 일정은 적어 정렬 비용이 작음)
+drop index idx_todos_weather_id on todos;
@@ -0,0 +1,13 @@
+-- users/todos/comments/managers id 발급 테이블 (IdGenerators), 다음에 나눠줄 id 블록의 시작 값
+-- 애플리케이션은 이 테이블에서 받은 id를 직접 넣으므로 id 컬럼의 auto_increment는 더 이상 쓰지 않음
+-- (외래 키가 걸린 컬럼이라 속성은 그대로 둠, 이 테이블을 거치지 않고 행을 넣으면 id가 겹칠 수 있음)
+create table id_generators (
+    sequence_name varchar(255) not null,
+    next_val bigint,
+    primary key (sequence_name)
+) engine=InnoDB;
+
+insert into id_generators (sequence_name, next_val) select 'users', coalesce(max(id), 0) + 1 from users;
+insert into id_generators (sequence_name, next_val) select 'todos', coalesce(max(id), 0) + 1 from todos;
+insert into id_generators (sequence_name, next_val) select 'comments', coalesce(max(id), 0) + 1 from comments;
+insert into id_generators (sequence_name, next_val) select 'managers', coalesce(max(id), 0) + 1 from managers;
@@ -0,0 +1,4 @@
+-- 일정/댓글 낙관적 잠금(@Version), 기존 행은 0부터 시작
+-- 수정할 때마다 1씩 늘고, 요청이 읽은 버전과 다르면 UPDATE가 0건이 되어 충돌로 처리
+alter table todos add column version bigint not null default 0;
+alter table comments add column version bigint not null default 0;
@@ -0,0 +1,128 @@
+package org.example.expert;
+
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.CapturingStatementInspector;
+import org.example.expert.support.QueryPlans;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 실행되는 리포지토리 쿼리가 Hibernate가 실제로 만든 SQL 그대로 인덱스를 타는지
+ * H2(MySQL 모드) 실행 계획(EXPLAIN)으로 확인한다. 테이블 전체 스캔이 하나라도 있으면 실패한다.
+ */
+@SpringBootTest(properties = CapturingStatementInspector.PROPERTY)
+@ActiveProfiles("test")
+class HotQueryPlanTest {
+
+    private static final String TABLE_SCAN = ".tableScan";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+    @Autowired
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Test
+    void 할일_목록_조회가_modifiedAt_인덱스를_타는가() {
+        // 빈 테이블의 첫 페이지라 COUNT 쿼리는 실행되지 않음
+        assertNoTableScan(() -> todoRepository.findTodoResponses(PageRequest.of(0, 10)));
+        assertNoTableScan(() -> todoRepository.findFirstPageByCursor(PageRequest.of(0, 11)));
+        assertNoTableScan(() -> todoRepository.findNextPageByCursor(LocalDateTime.now(), 1L, PageRequest.of(0, 11)));
+    }
+
+    @Test
+    void 조건별_할일_목록_조회가_복합_인덱스를_타는가() {
+        LocalDateTime now = LocalDateTime.now();
+        // 두 번째 페이지를 조회해 COUNT 쿼리도 함께 확인
+        PageRequest secondPage = PageRequest.of(1, 10);
+        assertNoTableScan(() -> todoRepository.findTodoResponses(new TodoFilter("Sunny", null, null, null), secondPage));
+        assertNoTableScan(() -> todoRepository.findTodoResponses(new TodoFilter(null, 1L, null, null), secondPage));
+        assertNoTableScan(() -> todoRepository.findTodoResponses(new TodoFilter(null, null, now.minusDays(7), now), secondPage));
+        assertNoTableScan(() -> todoRepository.findTodoResponses(new TodoFilter("Sunny", 1L, now.minusDays(7), now), secondPage));
+    }
+
+    @Test
+    void 할일_단건_조회와_날씨_보강_대상_조회가_인덱스를_타는가() {
+        assertNoTableScan(() -> todoRepository.findTodoResponseById(1L));
+        assertNoTableScan(() -> todoRepository.findPendingWeatherIds(PageRequest.of(0, 100)));
+        assertNoTableScan(() -> todoRepository.findPendingWeatherTodos(List.of(1L, 2L)));
+    }
+
+    @Test
+    void 검색_색인_구성과_검색_결과_조회가_인덱스를_타는가() {
+        assertNoTableScan(() -> todoRepository.findSearchDocumentsAfterId(0L, PageRequest.of(0, 1000)));
+        assertNoTableScan(() -> todoRepository.findSearchDocumentsModifiedAfter(LocalDateTime.now(), 0L, PageRequest.of(0, 1000)));
+        assertNoTableScan(() -> todoRepository.findTodoResponsesByIds(List.of(1L, 2L)));
+    }
+
+    @Test
+    void 할일별_댓글과_담당자_조회가_todo_id_인덱스를_타는가() {
+        assertNoTableScan(() -> commentRepository.findResponsesByTodoId(1L));
+        assertNoTableScan(() -> managerRepository.findResponsesByTodoId(1L));
+    }
+
+    @Test
+    void ETag용_버전_조회가_인덱스를_타는가() {
+        assertNoTableScan(() -> todoRepository.findVersionById(1L));
+        assertNoTableScan(() -> commentRepository.findVersionByTodoId(1L));
+        assertNoTableScan(() -> userRepository.findVersionById(1L));
+    }
+
+    @Test
+    void 인증_관련_조회가_인덱스를_타는가() {
+        assertNoTableScan(() -> userRepository.findByEmail("email@email.com"));
+        assertNoTableScan(() -> refreshTokenRepository.findByTokenHashWithUser("hash"));
+        assertNoTableScan(() -> refreshTokenRepository.findExpiredIds(LocalDateTime.now(), PageRequest.of(0, 100)));
+        assertNoTableScan(() -> refreshTokenRepository.deleteAllByUserId(1L));
+        assertNoTableScan(() -> tokenRevocationRepository.findActiveRevokedSince(
+                LocalDateTime.now().minusMinutes(1), 0L, LocalDateTime.now(), PageRequest.of(0, 100)));
+        assertNoTableScan(() -> tokenRevocationRepository.findExpiredIds(LocalDateTime.now(), PageRequest.of(0, 100)));
+    }
+
+    private void assertNoTableScan(Runnable query) {
+        List<String> statements = capture(query);
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan).as("전체 스캔이 발생한 쿼리: %s", sql).doesNotContain(TABLE_SCAN);
+        }
+    }
+
+    private List<String> capture(Runnable query) {
+        return CapturingStatementInspector.capture(() -> transactionTemplate.executeWithoutResult(status -> {
+            query.run();
+            status.setRollbackOnly();
+        }));
+    }
+
+    private String explain(String sql) {
+        return QueryPlans.explain(jdbcTemplate, sql);
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 스텁 서버(응답 지연 20ms)를 상대로 기존 기본 RestTemplate 블로킹 호출, 커넥션 풀을 쓰는 블로킹 호출,
+ * JDK HttpClient 논블로킹 호출의 처리량과 그동안 늘어난 스레드 수를 비교한다.
+ */
+@Slf4j
+@Tag("benchmark")
+class WeatherClientBenchmarkTest {
+
+    private static final int REQUEST_COUNT = 1000;
+    private static final int CONCURRENCY = 50;
+    private static final long STUB_LATENCY_MS = 20;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private static HttpServer server;
+    private static URI weatherApiUri;
+
+    @BeforeAll
+    static void startStubServer() throws Exception {
+        byte[] body = buildFeed().getBytes(StandardCharsets.UTF_8);
+
+        // 응답 헤더와 본문을 나눠 쓸 때 Nagle 지연이 끼지 않도록 함
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 512);
+        server.setExecutor(Executors.newFixedThreadPool(CONCURRENCY * 2));
+        server.createContext("/f-api/weather.json", exchange -> {
+            try {
+                Thread.sleep(STUB_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        weatherApiUri = URI.create("http://localhost:" + server.getAddress().getPort() + "/f-api/weather.json");
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void 블로킹_RestTemplate과_논블로킹_HttpClient의_처리량_비교() throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        JdkClientHttpRequestFactory pooledRequestFactory = new JdkClientHttpRequestFactory(httpClient);
+        pooledRequestFactory.setReadTimeout(Duration.ofSeconds(5));
+
+        WeatherClient defaultClient = createWeatherClient(new RestTemplate(), httpClient);
+        WeatherClient pooledClient = createWeatherClient(new RestTemplate(pooledRequestFactory), httpClient);
+
+        // 워밍업
+        runBlocking(defaultClient, 100);
+        runBlocking(pooledClient, 100);
+        runAsync(pooledClient, 100);
+
+        int baseThreads = resetPeakThreads();
+        long defaultNanos = runBlocking(defaultClient, REQUEST_COUNT);
+        int defaultThreads = THREADS.getPeakThreadCount() - baseThreads;
+
+        baseThreads = resetPeakThreads();
+        long pooledNanos = runBlocking(pooledClient, REQUEST_COUNT);
+        int pooledThreads = THREADS.getPeakThreadCount() - baseThreads;
+
+        baseThreads = resetPeakThreads();
+        long asyncNanos = runAsync(pooledClient, REQUEST_COUNT);
+        int asyncThreads = THREADS.getPeakThreadCount() - baseThreads;
+
+        report("blocking RestTemplate", defaultNanos, defaultThreads);
+        report("blocking pooled", pooledNanos, pooledThreads);
+        report("async HttpClient", asyncNanos, asyncThreads);
+    }
+
+    private WeatherClient createWeatherClient(RestTemplate restTemplate, HttpClient httpClient) {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        return new WeatherClient(
+                restTemplate,
+                httpClient,
+                objectMapper,
+                new SimpleMeterRegistry(),
+                Clock.systemDefaultZone(),
+                new CircuitBreaker(Integer.MAX_VALUE, 0, Clock.systemDefaultZone()),
+                weatherApiUri,
+                Duration.ofSeconds(5),
+                CONCURRENCY,
+                500L,
+                "Unknown");
+    }
+
+    private int resetPeakThreads() {
+        THREADS.resetPeakThreadCount();
+        return THREADS.getThreadCount();
+    }
+
+    // 동시성만큼 요청 스레드가 응답을 기다리며 묶임
+    private long runBlocking(WeatherClient weatherClient, int requestCount) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENCY);
+        long start = System.nanoTime();
+
+        List<Future<WeatherTable>> futures = new ArrayList<>(requestCount);
+        for (int i = 0; i < requestCount; i++) {
+            futures.add(executorService.submit(weatherClient::fetchWeatherTable));
+        }
+        for (Future<WeatherTable> future : futures) {
+            assertThat(future.get().get(MonthDay.of(1, 1))).isNotNull();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        executorService.shutdown();
+        return elapsed;
+    }
+
+    // 호출 스레드 하나가 요청을 보내고 응답은 HttpClient의 셀렉터 스레드가 처리
+    private long runAsync(WeatherClient weatherClient, int requestCount) {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        long start = System.nanoTime();
+
+        List<CompletableFuture<WeatherTable>> futures = new ArrayList<>(requestCount);
+        for (int i = 0; i < requestCount; i++) {
+            inFlight.acquireUninterruptibly();
+            futures.add(weatherClient.fetchWeatherTableAsync().whenComplete((table, e) -> inFlight.release()));
+        }
+        for (CompletableFuture<WeatherTable> future : futures) {
+            assertThat(future.join().get(MonthDay.of(1, 1))).isNotNull();
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    private void report(String name, long elapsedNanos, int extraThreads) {
+        double elapsedMs = elapsedNanos / 1_000_000.0;
+        log.info(String.format("%-25s %,10.1f ms  %,10.1f req/s  +%d threads (%d in flight)",
+                name, elapsedMs, REQUEST_COUNT / (elapsedMs / 1000.0), extraThreads, CONCURRENCY));
+    }
+
+    private static String buildFeed() {
+        StringBuilder feed = new StringBuilder("[");
+        LocalDate day = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < 366; i++) {
+            if (i > 0) {
+                feed.append(',');
+            }
+            feed.append(String.format("{\"date\":\"%02d-%02d\",\"weather\":\"Sunny\"}",
+                    day.getMonthValue(), day.getDayOfMonth()));
+            day = day.plusDays(1);
+        }
+        return feed.append(']').toString();
+    }
+}
@@ -0,0 +1,383 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.config.exception.custom.ServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WeatherClientTest {
+
+    private static final WeatherDto[] WEATHER_FEED = {
+            new WeatherDto("01-01", "Sunny"),
+            new WeatherDto("01-02", "Rainy"),
+            new WeatherDto("02-29", "Snowy")
+    };
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private MutableClock clock;
+    private WeatherClient weatherClient;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T09:00:00Z"));
+        weatherClient = createWeatherClient(null, URI.create("http://localhost/f-api/weather.json"));
+    }
+
+    @Test
+    void getTodayWeather에서_같은_날에는_외부_API를_한_번만_호출하는가() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(WEATHER_FEED));
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(first).isEqualTo("Sunny");
+        assertThat(second).isEqualTo("Sunny");
+        assertThat(weatherClient.getHitCount()).isEqualTo(1);
+        assertThat(weatherClient.getMissCount()).isEqualTo(1);
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    void getTodayWeather에서_날짜가_바뀌면_다시_갱신하는가() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(WEATHER_FEED));
+        weatherClient.getTodayWeather();
+
+        // when
+        clock.set(Instant.parse("2025-01-02T09:00:00Z"));
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(weather).isEqualTo("Rainy");
+        verify(restTemplate, times(2)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    void getTodayWeather에서_갱신이_실패하면_마지막_테이블을_사용하는가() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(WEATHER_FEED))
+                .willThrow(new ResourceAccessException("timeout"));
+        weatherClient.getTodayWeather();
+
+        // when
+        clock.set(Instant.parse("2025-01-02T09:00:00Z"));
+        String weather = weatherClient.getTodayWeather();
+        String retried = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(weather).isEqualTo("Rainy");
+        assertThat(retried).isEqualTo("Rainy");
+        // 재시도 간격 안에서는 다시 호출하지 않음
+        verify(restTemplate, times(2)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+        // 이전 테이블로 응답한 두 번은 miss가 아니라 stale로 따로 집계
+        assertThat(weatherClient.getMissCount()).isEqualTo(1);
+        assertThat(weatherClient.getStaleCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getTodayWeather에서_캐시된_값이_없을_때_갱신이_실패하면_대체_값을_반환하는가() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(new WeatherDto[0]));
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(weather).isEqualTo("Unknown");
+        assertThat(weatherClient.findTodayWeather()).isEmpty();
+    }
+
+    @Test
+    void getTodayWeather에서_연속_실패가_임계치를_넘으면_서킷이_열려_호출하지_않는가() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willThrow(new ResourceAccessException("timeout"));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            weatherClient.getTodayWeather();
+        }
+
+        // then
+        assertThat(weatherClient.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        verify(restTemplate, times(3)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    void getTodayWeather에서_차단_시간이_지나면_한_번_시험_호출_후_서킷이_닫히는가() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willThrow(new ResourceAccessException("timeout"))
+                .willThrow(new ResourceAccessException("timeout"))
+                .willThrow(new ResourceAccessException("timeout"))
+                .willReturn(ResponseEntity.ok(WEATHER_FEED));
+        for (int i = 0; i < 3; i++) {
+            weatherClient.getTodayWeather();
+        }
+
+        // when
+        clock.set(Instant.parse("2025-01-01T09:00:31Z"));
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(weather).isEqualTo("Sunny");
+        assertThat(weatherClient.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        verify(restTemplate, times(4)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    void getTodayWeather에서_시험_호출_중_Error가_나도_서킷이_반열림에_머물지_않는가() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willThrow(new ResourceAccessException("timeout"))
+                .willThrow(new ResourceAccessException("timeout"))
+                .willThrow(new ResourceAccessException("timeout"))
+                .willThrow(new StackOverflowError());
+        for (int i = 0; i < 3; i++) {
+            weatherClient.getTodayWeather();
+        }
+
+        // when
+        clock.set(Instant.parse("2025-01-01T09:00:31Z"));
+        assertThrows(StackOverflowError.class, () -> weatherClient.getTodayWeather());
+
+        // then
+        assertThat(weatherClient.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void getWeather에서_한_번_받은_테이블로_다른_날짜도_조회하는가() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(WEATHER_FEED));
+
+        // when
+        String backDated = weatherClient.getWeather(LocalDate.of(2024, 1, 2));
+        String leapDay = weatherClient.getWeather(LocalDate.of(2024, 2, 29));
+
+        // then
+        assertThat(backDated).isEqualTo("Rainy");
+        assertThat(leapDay).isEqualTo("Snowy");
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    void getWeather에서_테이블에_없는_날짜면_예외를_던지는가() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(WEATHER_FEED));
+
+        // when & then
+        assertThrows(ServerException.class,
+                () -> weatherClient.getWeather(LocalDate.of(2025, 3, 1)),
+                "해당 날짜의 날씨 데이터를 찾을 수 없습니다.");
+    }
+
+    @Test
+    void refreshTable에서_새_테이블로_교체하고_실패하면_기존_테이블을_유지하는가() {
+        // given
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willReturn(ResponseEntity.ok(WEATHER_FEED))
+                .willReturn(ResponseEntity.ok(new WeatherDto[]{new WeatherDto("01-01", "Cloudy")}))
+                .willThrow(new ResourceAccessException("timeout"));
+        weatherClient.getTodayWeather();
+
+        // when
+        weatherClient.refreshTable();
+        String refreshed = weatherClient.getTodayWeather();
+        weatherClient.refreshTable();
+        String kept = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(refreshed).isEqualTo("Cloudy");
+        assertThat(kept).isEqualTo("Cloudy");
+    }
+
+    @Test
+    void getTodayWeather에서_동시_요청이_와도_외부_API는_한_번만_호출하는가() throws Exception {
+        // given
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        given(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+                .willAnswer(invocation -> {
+                    fetchStarted.countDown();
+                    releaseFetch.await(5, TimeUnit.SECONDS);
+                    return ResponseEntity.ok(WEATHER_FEED);
+                });
+
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        // when
+        Future<String>[] results = new Future[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            results[i] = executorService.submit(weatherClient::getTodayWeather);
+        }
+        fetchStarted.await(5, TimeUnit.SECONDS);
+        releaseFetch.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("Sunny");
+        }
+        executorService.shutdown();
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    void getTodayWeatherAsync에서_논블로킹_클라이언트로_받은_테이블을_공유하는가() throws Exception {
+        // given
+        AtomicInteger requestCount = new AtomicInteger();
+        HttpServer server = startStubServer(exchange -> requestCount.incrementAndGet());
+
+        try {
+            WeatherClient asyncClient = createWeatherClient(HttpClient.newHttpClient(), stubUri(server));
+
+            // when
+            String first = asyncClient.getTodayWeatherAsync().get(5, TimeUnit.SECONDS);
+            String second = asyncClient.getTodayWeatherAsync().get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(first).isEqualTo("Sunny");
+            assertThat(second).isEqualTo("Sunny");
+            assertThat(requestCount.get()).isEqualTo(1);
+            assertThat(asyncClient.getHitCount()).isEqualTo(1);
+            assertThat(asyncClient.getMissCount()).isEqualTo(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void getTodayWeatherAsync에서_갱신이_대기_시간보다_늦으면_기다리지_않고_대체_값을_반환하는가() throws Exception {
+        // given
+        CountDownLatch releaseResponse = new CountDownLatch(1);
+        HttpServer server = startStubServer(exchange -> {
+            try {
+                releaseResponse.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        try {
+            WeatherClient asyncClient = createWeatherClient(HttpClient.newHttpClient(), stubUri(server));
+
+            // when
+            String weather = asyncClient.getTodayWeatherAsync().get(5, TimeUnit.SECONDS);
+            releaseResponse.countDown();
+
+            // then
+            assertThat(weather).isEqualTo("Unknown");
+            // 갱신은 뒤에서 계속되어 늦게 도착한 응답으로 테이블이 채워짐
+            String refreshed = null;
+            for (int i = 0; i < 50 && !"Sunny".equals(refreshed); i++) {
+                Thread.sleep(100);
+                refreshed = asyncClient.getTodayWeatherAsync().getNow(null);
+            }
+            assertThat(refreshed).isEqualTo("Sunny");
+        } finally {
+            releaseResponse.countDown();
+            server.stop(0);
+        }
+    }
+
+    private HttpServer startStubServer(Consumer<HttpExchange> beforeResponse) throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/f-api/weather.json", exchange -> {
+            beforeResponse.accept(exchange);
+            byte[] body = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"}]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        return server;
+    }
+
+    private URI stubUri(HttpServer server) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + "/f-api/weather.json");
+    }
+
+    private WeatherClient createWeatherClient(HttpClient httpClient, URI weatherApiUri) {
+        return new WeatherClient(
+                restTemplate, httpClient, Jackson2ObjectMapperBuilder.json().build(),
+                new SimpleMeterRegistry(), clock, new CircuitBreaker(3, 30_000L, clock),
+                weatherApiUri, Duration.ofSeconds(2), 10, 500L, "Unknown");
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.expert.config;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bcrypt cost별 해시/검증 시간을 JMH로 측정한다. password.bcrypt.target-ms를 정할 때 참고.
+ * ./gradlew benchmark --tests '*PasswordEncoderBenchmarkTest' 로 실행.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class PasswordEncoderBenchmarkTest {
+
+    private static final char[] PASSWORD = "benchmark-password".toCharArray();
+
+    @Param({"4", "6", "8", "10", "11", "12", "13", "14"})
+    private int cost;
+
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoded = BCrypt.withDefaults().hashToString(cost, PASSWORD);
+    }
+
+    @Test
+    void bcrypt_cost별_해시_검증_시간_측정() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(PasswordEncoderBenchmarkTest.class.getName() + "\\.(hash|verify)")
+                .build())
+                .run();
+    }
+
+    @Benchmark
+    public byte[] hash() {
+        return BCrypt.withDefaults().hash(cost, PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return BCrypt.verifyer().verify(PASSWORD, encoded).verified;
+    }
+}
@@ -1,19 +1,38 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.config.config.PasswordEncoder;
+import org.example.expert.config.exception.custom.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
     private PasswordEncoder passwordEncoder;
 
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = passwordEncoder(250, 4, 16, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.stop();
+    }
+
     @Test
     void matches_메서드가_정상적으로_동작한다() {
         // given
@@ -26,4 +45,118 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void needsRehash가_현재_cost보다_낮은_해시만_골라내는가() {
+        // given
+        String lowCostHash = passwordEncoder.encode("testPassword");
+        ReflectionTestUtils.setField(passwordEncoder, "cost", 5);
+        String currentHash = passwordEncoder.encode("testPassword");
+
+        // when & then
+        assertTrue(passwordEncoder.needsRehash(lowCostHash));
+        assertFalse(passwordEncoder.needsRehash(currentHash));
+        assertFalse(passwordEncoder.needsRehash("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void calibrate에서_목표_시간을_넘지_않는_가장_높은_cost를_고르는가() {
+        // given
+        PasswordEncoder encoder = passwordEncoder(10_000, 4, 6, 1, 1);
+
+        // when
+        encoder.calibrate();
+
+        // then
+        assertEquals(6, encoder.getCost());
+    }
+
+    @Test
+    void calibrate에서_최소_cost도_목표_시간을_넘으면_최소_cost를_쓰는가() {
+        // given
+        PasswordEncoder encoder = passwordEncoder(-1, 8, 10, 1, 1);
+
+        // when
+        encoder.calibrate();
+
+        // then
+        assertEquals(8, encoder.getCost());
+    }
+
+    @Test
+    void 해시_스레드와_대기열이_가득_차면_503_예외로_바로_거절하는가() throws Exception {
+        // given
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordEncoder, "executor");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        started.await();
+        executor.execute(() -> await(release)); // 대기열 1칸을 채움
+
+        // when & then
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> passwordEncoder.matches("testPassword", "$2a$04$invalid"));
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(1, passwordEncoder.getQueueDepth());
+        release.countDown();
+    }
+
+    @Test
+    void tryEncodeInBackground에서_해시를_넘겨주고_평문을_지우는가() throws Exception {
+        // given
+        char[] rawPassword = "testPassword".toCharArray();
+        CountDownLatch encoded = new CountDownLatch(1);
+        AtomicReference<String> result = new AtomicReference<>();
+
+        // when
+        boolean submitted = passwordEncoder.tryEncodeInBackground(rawPassword, hash -> {
+            result.set(hash);
+            encoded.countDown();
+        });
+
+        // then
+        assertTrue(submitted);
+        assertTrue(encoded.await(5, TimeUnit.SECONDS));
+        assertTrue(passwordEncoder.matches("testPassword", result.get()));
+        assertArrayEquals(new char[rawPassword.length], rawPassword);
+    }
+
+    @Test
+    void tryEncodeInBackground에서_대기열이_가득_차면_실행하지_않고_평문을_지우는가() throws Exception {
+        // given
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordEncoder, "executor");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        started.await();
+        executor.execute(() -> await(release)); // 대기열 1칸을 채움
+        char[] rawPassword = "testPassword".toCharArray();
+
+        // when
+        boolean submitted = passwordEncoder.tryEncodeInBackground(rawPassword, hash -> {
+        });
+
+        // then
+        assertFalse(submitted);
+        assertArrayEquals(new char[rawPassword.length], rawPassword);
+        release.countDown();
+    }
+
+    private PasswordEncoder passwordEncoder(long targetMs, int minCost, int maxCost, int threads, int queueCapacity) {
+        return new PasswordEncoder(new SimpleMeterRegistry(), targetMs, minCost, maxCost, threads, queueCapacity, 1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
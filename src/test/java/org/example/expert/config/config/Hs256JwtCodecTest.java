@@ -0,0 +1,128 @@
+package org.example.expert.config.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Hs256JwtCodecTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final long ISSUED_AT = 1_725_148_800_000L; // 2024-09-01T00:00:00Z
+    private static final long EXPIRES_AT = ISSUED_AT + 60 * 60 * 1000L;
+
+    private final Key key = Keys.hmacShaKeyFor(SECRET);
+    private final Hs256JwtCodec codec = new Hs256JwtCodec(SECRET);
+
+    @Test
+    void encode가_jjwt와_같은_토큰을_만드는가() {
+        // given
+        String jjwtToken = Jwts.builder()
+                .setSubject("1")
+                .claim("email", "em\"ail@email.com")
+                .claim("userRole", UserRole.ADMIN)
+                .setExpiration(new Date(EXPIRES_AT))
+                .setIssuedAt(new Date(ISSUED_AT))
+                .claim("iatMs", ISSUED_AT)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        String token = codec.encode(1L, "em\"ail@email.com", UserRole.ADMIN, ISSUED_AT, EXPIRES_AT);
+
+        // then
+        assertThat(token).isEqualTo(jjwtToken);
+    }
+
+    @Test
+    void decode가_jjwt로_만든_토큰을_검증하고_jjwt도_codec_토큰을_검증하는가() {
+        // given
+        String jjwtToken = Jwts.builder()
+                .setSubject("7")
+                .claim("email", "email@email.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(EXPIRES_AT))
+                .setIssuedAt(new Date(ISSUED_AT))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+        String codecToken = codec.encode(7L, "email@email.com", UserRole.USER,
+                System.currentTimeMillis(), System.currentTimeMillis() + 60_000L);
+
+        // when
+        VerifiedToken verifiedToken = codec.decode(jjwtToken, ISSUED_AT);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(codecToken).getBody();
+
+        // then
+        assertThat(verifiedToken.getAuthUser().getId()).isEqualTo(7L);
+        assertThat(verifiedToken.getAuthUser().getEmail()).isEqualTo("email@email.com");
+        assertThat(verifiedToken.getAuthUser().getUserRole()).isEqualTo(UserRole.USER);
+        assertThat(verifiedToken.getIssuedAt()).isEqualTo(ISSUED_AT);
+        assertThat(verifiedToken.getExpiresAt()).isEqualTo(EXPIRES_AT);
+        assertThat(claims.getSubject()).isEqualTo("7");
+        assertThat(claims.get("userRole", String.class)).isEqualTo("USER");
+    }
+
+    @Test
+    void decode에서_발급_시각을_밀리초까지_돌려주고_iat는_초_단위로_두는가() {
+        // given
+        long issuedAt = ISSUED_AT + 123;
+        String token = codec.encode(1L, "email@email.com", UserRole.USER, issuedAt, EXPIRES_AT);
+
+        // when
+        VerifiedToken verifiedToken = codec.decode(token, issuedAt);
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+
+        // then
+        assertThat(verifiedToken.getIssuedAt()).isEqualTo(issuedAt);
+        assertThat(claims.getIssuedAt()).isEqualTo(new Date(ISSUED_AT));
+    }
+
+    @Test
+    void decode에서_서명이_다르면_SignatureException을_던지는가() {
+        // given
+        String token = codec.encode(1L, "email@email.com", UserRole.USER, ISSUED_AT, EXPIRES_AT);
+        String otherKeyToken = new Hs256JwtCodec("fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8))
+                .encode(1L, "email@email.com", UserRole.USER, ISSUED_AT, EXPIRES_AT);
+        String forged = token.substring(0, token.lastIndexOf('.')) + otherKeyToken.substring(otherKeyToken.lastIndexOf('.'));
+
+        // when & then
+        assertThrows(SignatureException.class, () -> codec.decode(forged, ISSUED_AT));
+    }
+
+    @Test
+    void decode에서_만료된_토큰은_ExpiredJwtException을_던지는가() {
+        // given
+        String token = codec.encode(1L, "email@email.com", UserRole.USER, ISSUED_AT, EXPIRES_AT);
+
+        // when & then
+        assertThrows(ExpiredJwtException.class, () -> codec.decode(token, EXPIRES_AT + 1000));
+    }
+
+    @Test
+    void decode에서_alg_none이나_깨진_토큰을_거부하는가() {
+        // given
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString("{\"sub\":\"1\",\"exp\":9999999999}".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThrows(UnsupportedJwtException.class, () -> codec.decode(header + "." + payload + ".", ISSUED_AT));
+        assertThrows(UnsupportedJwtException.class, () -> codec.decode(header + "." + payload + ".c2ln", ISSUED_AT));
+        assertThrows(MalformedJwtException.class, () -> codec.decode("not-a-jwt", ISSUED_AT));
+        assertThrows(MalformedJwtException.class, () -> codec.decode("a.b!.c", ISSUED_AT));
+    }
+}
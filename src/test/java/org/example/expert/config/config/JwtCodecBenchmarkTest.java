@@ -0,0 +1,86 @@
+package org.example.expert.config.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 jjwt 경로와 Hs256JwtCodec의 토큰 발급/검증 비용을 JMH로 비교한다.
+ * ./gradlew benchmark --tests '*JwtCodecBenchmarkTest' 로 실행.
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtCodecBenchmarkTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final long ISSUED_AT = System.currentTimeMillis();
+    private static final long EXPIRES_AT = ISSUED_AT + 60 * 60 * 1000L;
+
+    private final Key key = Keys.hmacShaKeyFor(SECRET);
+    private final Hs256JwtCodec codec = new Hs256JwtCodec(SECRET);
+    private final String token = codec.encode(1L, "email@email.com", UserRole.USER, ISSUED_AT, EXPIRES_AT);
+
+    @Test
+    void jjwt와_Hs256JwtCodec의_발급_검증_비용_비교() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JwtCodecBenchmarkTest.class.getName() + "\\.(jjwt|codec).*")
+                .build())
+                .run();
+    }
+
+    @Benchmark
+    public String jjwtSign() {
+        return Jwts.builder()
+                .setSubject("1")
+                .claim("email", "email@email.com")
+                .claim("userRole", UserRole.USER)
+                .setExpiration(new Date(EXPIRES_AT))
+                .setIssuedAt(new Date(ISSUED_AT))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String codecSign() {
+        return codec.encode(1L, "email@email.com", UserRole.USER, ISSUED_AT, EXPIRES_AT);
+    }
+
+    @Benchmark
+    public Claims jjwtVerify() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public VerifiedToken codecVerify() {
+        return codec.decode(token, ISSUED_AT);
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.expert.config.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.exception.custom.InvalidRequestException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.request.TodoRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private ManagerService managerService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserAdminService userAdminService;
+
+    private Statistics statistics;
+    private User author;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        author = inTransaction(() -> userRepository.save(newUser()));
+        todo = inTransaction(() -> todoRepository.save(new Todo("title", "contents", null, author)));
+        // id를 미리 발급받는 엔티티는 INSERT 때 바로 캐시에 들어가므로 첫 조회가 DB를 거치도록 비움
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @Test
+    void 한_번_읽은_할일은_다시_읽을_때_DB를_거치지_않는가() {
+        // given
+        loadTodo();
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        // when
+        Todo cached = loadTodo();
+
+        // then
+        assertThat(cached.getTitle()).isEqualTo("title");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore);
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.TODO_REGION).getHitCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("hibernate.second.level.cache.hit.ratio")
+                .tag("region", SecondLevelCacheConfig.TODO_REGION).gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void 할일을_수정하면_캐시에도_수정된_값이_반영되는가() {
+        // given
+        loadTodo();
+        AuthUser authUser = new AuthUser(author.getId(), author.getEmail(), UserRole.USER);
+
+        // when
+        todoService.updateTodo(authUser, todo.getId(), new TodoRequest("new title", "new contents"), null);
+
+        // then
+        Todo updated = loadTodo();
+        assertThat(updated.getTitle()).isEqualTo("new title");
+        assertThat(updated.getContents()).isEqualTo("new contents");
+    }
+
+    @Test
+    void 할일을_삭제하면_캐시에서도_제거되는가() {
+        // given
+        loadTodo();
+        assertThat(entityManagerFactory.getCache().contains(Todo.class, todo.getId())).isTrue();
+
+        // when
+        todoService.deleteTodo(author.getId(), todo.getId());
+
+        // then (READ_WRITE는 삭제된 항목을 읽을 수 없는 잠금으로 남겨두므로 다음 조회는 캐시 미스)
+        long missesBefore = statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.TODO_REGION).getMissCount();
+        assertThrows(InvalidRequestException.class, this::loadTodo);
+        assertThat(statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.TODO_REGION).getMissCount())
+                .isEqualTo(missesBefore + 1);
+    }
+
+    @Test
+    void 벌크_업데이트_후에_캐시된_이전_값을_반환하지_않는가() {
+        // given
+        loadTodo();
+
+        // when
+        inTransaction(() -> todoRepository.updatePendingWeather(List.of(todo.getId()), "Sunny"));
+
+        // then
+        assertThat(loadTodo().getWeather()).isEqualTo("Sunny");
+    }
+
+    @Test
+    void 담당자를_추가하고_삭제하면_managers_컬렉션_캐시가_비워지는가() {
+        // given
+        assertThat(loadManagerCount()).isEqualTo(1);
+        User managerUser = inTransaction(() -> userRepository.save(newUser()));
+
+        // when (owning 쪽인 Manager만 저장)
+        Manager manager = inTransaction(() -> managerRepository.save(
+                new Manager(managerUser, todoService.findTodoByIdOrElseThrow(todo.getId()))));
+
+        // then
+        assertThat(loadManagerCount()).isEqualTo(2);
+
+        // when
+        managerService.deleteManager(author.getId(), todo.getId(), manager.getId());
+
+        // then
+        assertThat(loadManagerCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 사용자_권한이나_비밀번호를_바꾸면_캐시된_사용자도_바뀌는가() {
+        // given
+        loadUser();
+
+        // when
+        userAdminService.changeUserRole(author.getId(), new UserRoleChangeRequest("ADMIN"));
+
+        // then
+        assertThat(loadUser().getUserRole()).isEqualTo(UserRole.ADMIN);
+
+        // when (JPQL 벌크 업데이트)
+        inTransaction(() -> userRepository.updatePasswordIfUnchanged(author.getId(), "password", "rehashed"));
+
+        // then
+        assertThat(loadUser().getPassword()).isEqualTo("rehashed");
+    }
+
+    private Todo loadTodo() {
+        return inTransaction(() -> todoService.findTodoByIdOrElseThrow(todo.getId()));
+    }
+
+    private int loadManagerCount() {
+        return inTransaction(() -> todoService.findTodoByIdOrElseThrow(todo.getId()).getManagers().size());
+    }
+
+    private User loadUser() {
+        return inTransaction(() -> userService.findUserByIdOrElseThrow(author.getId()));
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    private static User newUser() {
+        return new User(UUID.randomUUID() + "@example.com", "password", UserRole.USER);
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.expert.config.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.exception.custom.AuthException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final String DIGEST = TokenDigest.sha256(TOKEN);
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-09-01T00:00:00Z"));
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(
+                jwtUtil, new SimpleMeterRegistry(), clock, () -> clock.millis() * 1_000_000L, 100);
+    }
+
+    @Test
+    void get에서_같은_토큰은_한_번만_검증하는가() {
+        // given
+        given(jwtUtil.verifyToken(TOKEN)).willReturn(verifiedToken(Duration.ofMinutes(60)));
+
+        // when
+        VerifiedToken first = verifiedTokenCache.get(DIGEST, TOKEN);
+        VerifiedToken second = verifiedTokenCache.get(DIGEST, TOKEN);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(second.getAuthUser().getEmail()).isEqualTo("email@email.com");
+        verify(jwtUtil, times(1)).verifyToken(TOKEN);
+    }
+
+    @Test
+    void get에서_토큰이_만료되면_캐시를_쓰지_않고_다시_검증하는가() {
+        // given
+        given(jwtUtil.verifyToken(TOKEN))
+                .willReturn(verifiedToken(Duration.ofMinutes(60)))
+                .willThrow(new AuthException("만료된 JWT 토큰입니다."));
+        verifiedTokenCache.get(DIGEST, TOKEN);
+
+        // when
+        clock.advance(Duration.ofMinutes(60));
+
+        // then
+        assertThrows(AuthException.class, () -> verifiedTokenCache.get(DIGEST, TOKEN));
+        verify(jwtUtil, times(2)).verifyToken(TOKEN);
+    }
+
+    @Test
+    void get에서_검증에_실패한_토큰은_캐시하지_않는가() {
+        // given
+        given(jwtUtil.verifyToken(TOKEN)).willThrow(new AuthException("유효하지 않는 JWT 서명입니다."));
+
+        // when & then
+        assertThrows(AuthException.class, () -> verifiedTokenCache.get(DIGEST, TOKEN));
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    private VerifiedToken verifiedToken(Duration ttl) {
+        AuthUser authUser = new AuthUser(1L, "email@email.com", UserRole.USER);
+        return new VerifiedToken(authUser, clock.millis(), clock.millis() + ttl.toMillis());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
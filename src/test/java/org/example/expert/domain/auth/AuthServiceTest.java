@@ -4,11 +4,18 @@ import org.example.expert.config.config.JwtUtil;
 import org.example.expert.config.config.PasswordEncoder;
 import org.example.expert.config.exception.custom.AuthException;
 import org.example.expert.config.exception.custom.InvalidRequestException;
+import org.example.expert.config.exception.custom.TooManyRequestsException;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.request.RefreshTokenRequest;
+import org.example.expert.domain.auth.dto.response.RefreshTokenResponse;
 import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.auth.service.LoginThrottler;
+import org.example.expert.domain.auth.service.PasswordRehasher;
+import org.example.expert.domain.auth.service.RefreshTokenService;
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -26,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +45,14 @@ public class AuthServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private RefreshTokenService refreshTokenService;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    @Mock
+    private PasswordRehasher passwordRehasher;
+    @Mock
+    private LoginThrottler loginThrottler;
     @InjectMocks
     private AuthService authService;
 
@@ -86,13 +102,35 @@ public class AuthServiceTest {
         given(userRepository.findByEmail(signinRequest.getEmail())).willReturn(Optional.of(user));
         given(passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())).willReturn(true);
         given(jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole())).willReturn(fakeToken);
+        given(refreshTokenService.issue(user)).willReturn("refresh-token");
 
         // when
-        SigninResponse response = authService.signin(signinRequest);
+        SigninResponse response = authService.signin(signinRequest, "127.0.0.1");
 
         // then
         assertNotNull(response);
         assertEquals(fakeToken, response.getBearerToken());
+        assertEquals("refresh-token", response.getRefreshToken());
+        verify(passwordRehasher).rehashIfNeeded(user.getId(), "correctPassword", "encodedPassword");
+    }
+
+    @Test
+    void refresh에서_비밀번호_검증_없이_토큰을_교체해_재발급하는가() {
+        // given
+        User user = new User(1L, "email@email.com", UserRole.USER);
+        RefreshTokenRequest refreshTokenRequest = new RefreshTokenRequest("old-refresh-token");
+
+        given(refreshTokenService.consume("old-refresh-token")).willReturn(user);
+        given(jwtUtil.createToken(1L, "email@email.com", UserRole.USER)).willReturn("new-access-token");
+        given(refreshTokenService.issue(user)).willReturn("new-refresh-token");
+
+        // when
+        RefreshTokenResponse response = authService.refresh(refreshTokenRequest);
+
+        // then
+        assertEquals("new-access-token", response.getBearerToken());
+        assertEquals("new-refresh-token", response.getRefreshToken());
+        verify(passwordEncoder, never()).matches(any(), any());
     }
 
     @Test
@@ -106,8 +144,22 @@ public class AuthServiceTest {
 
         // when & then
         assertThrows(AuthException.class,
-                () -> authService.signin(signinRequest),
+                () -> authService.signin(signinRequest, "127.0.0.1"),
                 "잘못된 비밀번호입니다.");
+        verify(loginThrottler).onFailure("email@email.com", "127.0.0.1");
+    }
+
+    @Test
+    void signin에서_시도_횟수를_넘으면_비밀번호를_검증하지_않는가() {
+        // given
+        SigninRequest signinRequest = new SigninRequest("email@email.com", "password");
+        willThrow(new TooManyRequestsException("로그인 시도가 너무 많습니다.", 30))
+                .given(loginThrottler).checkAllowed("email@email.com", "127.0.0.1");
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> authService.signin(signinRequest, "127.0.0.1"));
+        verify(userRepository, never()).findByEmail(any());
+        verify(passwordEncoder, never()).matches(any(), any());
     }
 
     @Test
@@ -0,0 +1,121 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.exception.custom.TooManyRequestsException;
+import org.example.expert.domain.auth.service.LoginThrottler.Limit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginThrottlerTest {
+
+    private static final String EMAIL = "email@email.com";
+    private static final String IP = "10.0.0.1";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private LoginThrottler loginThrottler;
+
+    @BeforeEach
+    void setUp() {
+        loginThrottler = new LoginThrottler(new SimpleMeterRegistry(), nanos::get,
+                new Limit(3, 60, 3), new Limit(5, 60, 100),
+                Duration.ofSeconds(30), Duration.ofMinutes(10), 1000);
+    }
+
+    @Test
+    void checkAllowed에서_계정_버킷이_비면_429를_던지고_시간이_지나면_다시_허용하는가() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            loginThrottler.checkAllowed(EMAIL, IP);
+        }
+
+        // when & then
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> loginThrottler.checkAllowed(EMAIL, IP));
+        assertThat(exception.getRetryAfterSeconds()).isEqualTo(1);
+
+        advance(Duration.ofSeconds(1));
+        assertDoesNotThrow(() -> loginThrottler.checkAllowed("EMAIL@email.com", IP));
+    }
+
+    @Test
+    void checkAllowed에서_여러_계정을_시도하는_IP를_막는가() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            loginThrottler.checkAllowed("user" + i + "@email.com", IP);
+        }
+
+        // when & then
+        assertThrows(TooManyRequestsException.class, () -> loginThrottler.checkAllowed("other@email.com", IP));
+        assertDoesNotThrow(() -> loginThrottler.checkAllowed("other@email.com", "10.0.0.2"));
+    }
+
+    @Test
+    void checkAllowed에서_IP가_막힌_시도는_계정_버킷의_토큰을_쓰지_않는가() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            loginThrottler.checkAllowed("user" + i + "@email.com", IP);
+        }
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThrows(TooManyRequestsException.class, () -> loginThrottler.checkAllowed(EMAIL, IP));
+        }
+
+        // then (계정 버킷은 3개 그대로)
+        for (int i = 0; i < 3; i++) {
+            assertDoesNotThrow(() -> loginThrottler.checkAllowed(EMAIL, "10.0.0.2"));
+        }
+        assertThrows(TooManyRequestsException.class, () -> loginThrottler.checkAllowed(EMAIL, "10.0.0.3"));
+    }
+
+    @Test
+    void 연속_실패가_임계치를_넘으면_잠금_시간이_두_배씩_늘어나는가() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            loginThrottler.checkAllowed(EMAIL, IP);
+            loginThrottler.onFailure(EMAIL, IP);
+        }
+
+        // when & then
+        TooManyRequestsException first = assertThrows(TooManyRequestsException.class,
+                () -> loginThrottler.checkAllowed(EMAIL, IP));
+        assertThat(first.getRetryAfterSeconds()).isEqualTo(30);
+
+        advance(Duration.ofSeconds(30));
+        loginThrottler.checkAllowed(EMAIL, IP);
+        loginThrottler.onFailure(EMAIL, IP);
+
+        TooManyRequestsException second = assertThrows(TooManyRequestsException.class,
+                () -> loginThrottler.checkAllowed(EMAIL, IP));
+        assertThat(second.getRetryAfterSeconds()).isEqualTo(60);
+    }
+
+    @Test
+    void onSuccess로_실패_횟수가_초기화되는가() {
+        // given
+        loginThrottler.checkAllowed(EMAIL, IP);
+        loginThrottler.onFailure(EMAIL, IP);
+        loginThrottler.checkAllowed(EMAIL, IP);
+        loginThrottler.onFailure(EMAIL, IP);
+
+        // when
+        loginThrottler.onSuccess(EMAIL);
+        advance(Duration.ofSeconds(3));
+        loginThrottler.checkAllowed(EMAIL, IP);
+        loginThrottler.onFailure(EMAIL, IP);
+
+        // then
+        assertDoesNotThrow(() -> loginThrottler.checkAllowed(EMAIL, IP));
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.config.PasswordEncoder;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordRehasherTest {
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PasswordRehasher passwordRehasher;
+
+    @BeforeEach
+    void setUp() {
+        passwordRehasher = new PasswordRehasher(passwordEncoder, userRepository, transactionTemplate, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rehash에서_해싱_풀이_만든_해시로_기존_해시가_그대로일_때만_바꾸는가() {
+        // given
+        given(passwordEncoder.tryEncodeInBackground(any(char[].class), any())).willAnswer(invocation -> {
+            invocation.<Consumer<String>>getArgument(1).accept("$2a$12$new");
+            return true;
+        });
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+
+        // when
+        passwordRehasher.rehash(1L, "password".toCharArray(), "$2a$04$old");
+
+        // then
+        verify(userRepository).updatePasswordIfUnchanged(1L, "$2a$04$old", "$2a$12$new");
+    }
+
+    @Test
+    void rehashIfNeeded에서_로그인_트랜잭션이_커밋된_뒤에야_재해시를_맡기는가() {
+        // given
+        given(passwordEncoder.needsRehash("$2a$04$old")).willReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        passwordRehasher.rehashIfNeeded(1L, "password", "$2a$04$old");
+
+        // then
+        verify(passwordEncoder, never()).tryEncodeInBackground(any(char[].class), any());
+        ArgumentCaptor<char[]> password = ArgumentCaptor.forClass(char[].class);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        verify(passwordEncoder).tryEncodeInBackground(password.capture(), any());
+        assertThat(password.getValue()).containsExactly("password".toCharArray());
+    }
+
+    @Test
+    void rehashIfNeeded에서_로그인_트랜잭션이_롤백되면_재해시하지_않고_비밀번호를_지우는가() {
+        // given
+        given(passwordEncoder.needsRehash("$2a$04$old")).willReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        passwordRehasher.rehashIfNeeded(1L, "password", "$2a$04$old");
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        verify(passwordEncoder, never()).tryEncodeInBackground(any(char[].class), any());
+    }
+
+    @Test
+    void rehashIfNeeded에서_해싱_풀이_가득_차면_예외_없이_넘어가는가() {
+        // given
+        given(passwordEncoder.needsRehash("$2a$04$old")).willReturn(true);
+        given(passwordEncoder.tryEncodeInBackground(any(char[].class), any())).willReturn(false);
+
+        // when
+        passwordRehasher.rehashIfNeeded(1L, "password", "$2a$04$old");
+
+        // then
+        verify(userRepository, never()).updatePasswordIfUnchanged(any(), anyString(), anyString());
+    }
+
+    @Test
+    void rehashIfNeeded에서_현재_cost의_해시는_다시_만들지_않는가() {
+        // given
+        given(passwordEncoder.needsRehash("$2a$12$current")).willReturn(false);
+
+        // when
+        passwordRehasher.rehashIfNeeded(1L, "password", "$2a$12$current");
+
+        // then
+        verify(passwordEncoder, never()).tryEncodeInBackground(any(char[].class), any());
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.config.config.TokenDigest;
+import org.example.expert.config.exception.custom.AuthException;
+import org.example.expert.domain.auth.entity.RefreshToken;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private RefreshTokenService refreshTokenService;
+
+    private final User user = new User(1L, "email@email.com", UserRole.USER);
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, transactionTemplate, 14, 2);
+    }
+
+    @Test
+    void issue에서_토큰_원문이_아닌_해시를_저장하는가() {
+        // when
+        String token = refreshTokenService.issue(user);
+
+        // then
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(captor.getValue().getTokenHash())
+                .isEqualTo(TokenDigest.sha256(token))
+                .isNotEqualTo(token)
+                .hasSize(64);
+        assertThat(captor.getValue().getExpiresAt()).isAfter(LocalDateTime.now().plusDays(13));
+    }
+
+    @Test
+    void consume에서_토큰을_삭제하고_사용자를_반환하는가() {
+        // given
+        RefreshToken refreshToken = refreshToken(LocalDateTime.now().plusDays(1));
+        given(refreshTokenRepository.findByTokenHashWithUser(TokenDigest.sha256("token")))
+                .willReturn(Optional.of(refreshToken));
+        given(refreshTokenRepository.deleteToken(10L)).willReturn(1);
+
+        // when
+        User result = refreshTokenService.consume("token");
+
+        // then
+        assertThat(result).isSameAs(user);
+    }
+
+    @Test
+    void consume에서_이미_사용된_토큰이면_AuthException을_던지는가() {
+        // given
+        RefreshToken refreshToken = refreshToken(LocalDateTime.now().plusDays(1));
+        given(refreshTokenRepository.findByTokenHashWithUser(anyString())).willReturn(Optional.of(refreshToken));
+        given(refreshTokenRepository.deleteToken(10L)).willReturn(0);
+
+        // when & then
+        assertThrows(AuthException.class, () -> refreshTokenService.consume("token"));
+    }
+
+    @Test
+    void consume에서_만료되었거나_없는_토큰이면_AuthException을_던지는가() {
+        // given
+        given(refreshTokenRepository.findByTokenHashWithUser(TokenDigest.sha256("expired")))
+                .willReturn(Optional.of(refreshToken(LocalDateTime.now().minusSeconds(1))));
+        given(refreshTokenRepository.findByTokenHashWithUser(TokenDigest.sha256("unknown")))
+                .willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(AuthException.class, () -> refreshTokenService.consume("expired"));
+        assertThrows(AuthException.class, () -> refreshTokenService.consume("unknown"));
+    }
+
+    @Test
+    void deleteExpiredTokens에서_배치_단위로_나눠_삭제하는가() {
+        // given
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        given(refreshTokenRepository.findExpiredIds(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L), List.of(3L));
+        given(refreshTokenRepository.deleteAllByIds(List.of(1L, 2L))).willReturn(2);
+        given(refreshTokenRepository.deleteAllByIds(List.of(3L))).willReturn(1);
+
+        // when
+        int deleted = refreshTokenService.deleteExpiredTokens();
+
+        // then
+        assertThat(deleted).isEqualTo(3);
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    private RefreshToken refreshToken(LocalDateTime expiresAt) {
+        RefreshToken refreshToken = new RefreshToken(user, "hash", expiresAt);
+        ReflectionTestUtils.setField(refreshToken, "id", 10L);
+        return refreshToken;
+    }
+}
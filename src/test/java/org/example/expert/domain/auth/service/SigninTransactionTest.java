@@ -0,0 +1,63 @@
+package org.example.expert.domain.auth.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.config.PasswordEncoder;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.response.SigninResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 로그인의 bcrypt 검증이 트랜잭션과 DB 커넥션을 잡지 않은 채 실행되는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SigninTransactionTest {
+
+    @Autowired
+    private AuthService authService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void signin에서_비밀번호를_검증하는_동안_트랜잭션과_커넥션을_잡고_있지_않는가() {
+        // given
+        String email = UUID.randomUUID() + "@example.com";
+        userRepository.save(new User(email, passwordEncoder.encode("password"), UserRole.USER));
+
+        List<Boolean> transactionActive = new ArrayList<>();
+        List<Boolean> entityManagerBound = new ArrayList<>();
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            entityManagerBound.add(TransactionSynchronizationManager.hasResource(entityManagerFactory));
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(anyString(), anyString());
+
+        // when
+        SigninResponse response = authService.signin(new SigninRequest(email, "password"), "127.0.0.1");
+
+        // then
+        assertThat(response.getRefreshToken()).isNotBlank();
+        assertThat(transactionActive).containsExactly(false);
+        assertThat(entityManagerBound).containsExactly(false);
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.expert.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.config.TokenDigest;
+import org.example.expert.config.config.VerifiedToken;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    private static final long HOUR_MS = 60 * 60 * 1000L;
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(
+                tokenRevocationRepository, refreshTokenRepository, transactionTemplate, new SimpleMeterRegistry(),
+                HOUR_MS, 1000, 2, 60_000L);
+    }
+
+    @Test
+    void revokeToken으로_폐기한_토큰만_폐기된_것으로_판단하는가() {
+        // given
+        String revoked = TokenDigest.sha256("revoked-token");
+        String other = TokenDigest.sha256("other-token");
+        long now = System.currentTimeMillis();
+        given(tokenRevocationRepository.save(any(TokenRevocation.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        tokenRevocationService.revokeToken(revoked, now + HOUR_MS);
+
+        // then
+        assertThat(tokenRevocationService.isRevoked(revoked, verifiedToken(1L, now))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(other, verifiedToken(1L, now))).isFalse();
+    }
+
+    @Test
+    void revokeAllForUser로_폐기하면_그_이전에_발급된_토큰과_리프레시_토큰이_폐기되는가() {
+        // given
+        long issuedBefore = System.currentTimeMillis() - 1000;
+        given(tokenRevocationRepository.save(any(TokenRevocation.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        tokenRevocationService.revokeAllForUser(1L);
+
+        // then
+        String digest = TokenDigest.sha256("token");
+        assertThat(tokenRevocationService.isRevoked(digest, verifiedToken(1L, issuedBefore))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(digest, verifiedToken(1L, issuedBefore + 60_000))).isFalse();
+        assertThat(tokenRevocationService.isRevoked(digest, verifiedToken(2L, issuedBefore))).isFalse();
+        verify(refreshTokenRepository).deleteAllByUserId(1L);
+    }
+
+    @Test
+    void revokeAllForUser_직후_같은_초에_발급된_토큰은_폐기되지_않는가() {
+        // given
+        ArgumentCaptor<TokenRevocation> saved = ArgumentCaptor.forClass(TokenRevocation.class);
+        given(tokenRevocationRepository.save(saved.capture())).willAnswer(invocation -> invocation.getArgument(0));
+        tokenRevocationService.revokeAllForUser(1L);
+        long revokedAt = saved.getValue().getRevokedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // when (발급 시각은 밀리초 단위)
+        boolean issuedJustBefore = tokenRevocationService.isRevoked(TokenDigest.sha256("token"), verifiedToken(1L, revokedAt - 1));
+        boolean issuedJustAfter = tokenRevocationService.isRevoked(TokenDigest.sha256("token"), verifiedToken(1L, revokedAt + 1));
+
+        // then
+        assertThat(issuedJustBefore).isTrue();
+        assertThat(issuedJustAfter).isFalse();
+    }
+
+    @Test
+    void syncNewRevocations에서_배치로_이어_읽어오는가() {
+        // given
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+        TokenRevocation first = revocation(1L, TokenRevocation.ofToken(TokenDigest.sha256("a"), LocalDateTime.now(), expiresAt));
+        TokenRevocation second = revocation(2L, TokenRevocation.ofToken(TokenDigest.sha256("b"), LocalDateTime.now(), expiresAt));
+        TokenRevocation third = revocation(3L, TokenRevocation.ofToken(TokenDigest.sha256("c"), LocalDateTime.now(), expiresAt));
+        given(tokenRevocationRepository.findActiveRevokedSince(any(LocalDateTime.class), eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(first, second));
+        given(tokenRevocationRepository.findActiveRevokedSince(any(LocalDateTime.class), eq(2L), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(third));
+
+        // when
+        int synced = tokenRevocationService.syncNewRevocations();
+
+        // then
+        assertThat(synced).isEqualTo(3);
+        long now = System.currentTimeMillis();
+        assertThat(tokenRevocationService.isRevoked(TokenDigest.sha256("c"), verifiedToken(1L, now))).isTrue();
+        assertThat(tokenRevocationService.isRevoked(TokenDigest.sha256("d"), verifiedToken(1L, now))).isFalse();
+    }
+
+    @Test
+    void syncNewRevocations에서_더_큰_id보다_늦게_커밋된_기록도_다음_동기화에서_읽는가() {
+        // given (id 5가 먼저 커밋되어 읽힌 뒤 id 4가 커밋됨)
+        LocalDateTime revokedAt = LocalDateTime.now();
+        LocalDateTime expiresAt = revokedAt.plusHours(1);
+        TokenRevocation later = revocation(5L, TokenRevocation.ofToken(TokenDigest.sha256("later"), revokedAt, expiresAt));
+        TokenRevocation lateCommitted = revocation(4L, TokenRevocation.ofToken(TokenDigest.sha256("late"), revokedAt, expiresAt));
+        given(tokenRevocationRepository.findActiveRevokedSince(any(LocalDateTime.class), eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(later))
+                .willReturn(List.of(lateCommitted, later));
+        tokenRevocationService.syncNewRevocations();
+
+        // when
+        tokenRevocationService.syncNewRevocations();
+
+        // then
+        long now = System.currentTimeMillis();
+        assertThat(tokenRevocationService.isRevoked(TokenDigest.sha256("late"), verifiedToken(1L, now))).isTrue();
+        // 두 번째 동기화는 처음부터가 아니라 첫 동기화 시각에서 overlap만큼 앞선 시각부터 읽음
+        ArgumentCaptor<LocalDateTime> from = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(tokenRevocationRepository, times(2)).findActiveRevokedSince(from.capture(), eq(0L), any(LocalDateTime.class), any(Pageable.class));
+        assertThat(from.getAllValues().get(1)).isAfter(revokedAt.minusMinutes(2)).isBefore(revokedAt);
+    }
+
+    @Test
+    void 블룸_필터는_넣은_값을_놓치지_않고_오탐률이_낮은가() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put(TokenDigest.sha256("revoked-" + i));
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(bloomFilter.mightContain(TokenDigest.sha256("revoked-" + i))).isTrue();
+            if (bloomFilter.mightContain(TokenDigest.sha256("valid-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    private VerifiedToken verifiedToken(Long userId, long issuedAt) {
+        return new VerifiedToken(new AuthUser(userId, "email@email.com", UserRole.USER), issuedAt, issuedAt + HOUR_MS);
+    }
+
+    private TokenRevocation revocation(Long id, TokenRevocation revocation) {
+        ReflectionTestUtils.setField(revocation, "id", id);
+        return revocation;
+    }
+}
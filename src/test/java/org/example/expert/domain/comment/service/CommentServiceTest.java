@@ -6,7 +6,9 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.config.exception.custom.InvalidRequestException;
+import org.example.expert.config.exception.custom.PreconditionFailedException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.entity.User;
@@ -18,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -81,14 +84,12 @@ class CommentServiceTest {
     void getComments에서_정상적으로_리스트가_출력될_수_있는가() {
         // given
         long todoId = 2L;
-        User user = new User(1L, "email@email.com", UserRole.USER);
-        Todo todo = new Todo(todoId);
-        List<Comment> commentList = List.of(
-                new Comment("content 1", user, todo),
-                new Comment("content 2", user, todo)
+        List<CommentResponse> commentList = List.of(
+                new CommentResponse(1L, "content 1", 1L, "email@email.com", 0L),
+                new CommentResponse(2L, "content 2", 1L, "email@email.com", 0L)
         );
 
-        given(commentRepository.findByTodoIdWithUser(todoId)).willReturn(commentList);
+        given(commentRepository.findResponsesByTodoId(todoId)).willReturn(commentList);
 
         // when
         List<CommentResponse> commentResponseList = commentService.getComments(todoId);
@@ -96,8 +97,9 @@ class CommentServiceTest {
         // then
         assertThat(commentResponseList.get(0).getContents()).isEqualTo("content 1");
         assertThat(commentResponseList.get(1).getContents()).isEqualTo("content 2");
+        assertThat(commentResponseList.get(0).getUser().getEmail()).isEqualTo("email@email.com");
 
-        verify(commentRepository, times(1)).findByTodoIdWithUser(todoId);
+        verify(commentRepository, times(1)).findResponsesByTodoId(todoId);
     }
 
     @Test
@@ -115,7 +117,7 @@ class CommentServiceTest {
         given(commentRepository.findCommentById(commentId)).willReturn(Optional.of(comment));
 
         // when
-        CommentResponse commentResponse = commentService.updateComment(authUser, commentId, commentRequest);
+        CommentResponse commentResponse = commentService.updateComment(authUser, commentId, commentRequest, null);
 
         // then
         assertThat(commentResponse.getContents()).isEqualTo(commentRequest.getContents());
@@ -138,11 +140,32 @@ class CommentServiceTest {
 
         // when & then
         assertThrows(InvalidRequestException.class,
-                () -> commentService.updateComment(authUser, commentId, commentRequest),
+                () -> commentService.updateComment(authUser, commentId, commentRequest, null),
                 "댓글 작성자가 아닙니다.");
 
     }
 
+    @Test
+    void updateComment에서_If_Match_버전이_현재_버전과_다르면_412를_던지는가() {
+        // given
+        long userId = 1L;
+        AuthUser authUser = new AuthUser(userId, "email@email.com", UserRole.USER);
+
+        long commentId = 2L;
+        Comment comment = new Comment(commentId);
+        ReflectionTestUtils.setField(comment, "user", User.fromAuthUser(authUser));
+        ReflectionTestUtils.setField(comment, "version", 5L);
+        CommentRequest commentRequest = new CommentRequest("contents");
+
+        given(commentRepository.findCommentById(commentId)).willReturn(Optional.of(comment));
+
+        // when & then
+        assertThrows(PreconditionFailedException.class,
+                () -> commentService.updateComment(authUser, commentId, commentRequest, 4L),
+                "댓글이 다른 요청에서 먼저 수정되었습니다.");
+        assertThat(comment.getContents()).isNull();
+    }
+
     @Test
     void deleteComment에서_정상적으로_댓글을_삭제할_수_있는가() {
         // given
@@ -176,4 +199,22 @@ class CommentServiceTest {
                 "댓글 작성자가 아닙니다.");
     }
 
+
+    @Test
+    void getCommentsETag에서_댓글이_삭제되면_ETag가_달라지는가() {
+        // given
+        long todoId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        given(commentRepository.findVersionByTodoId(todoId)).willReturn(
+                new ResourceVersion(modifiedAt, 2L), new ResourceVersion(modifiedAt, 1L), new ResourceVersion(modifiedAt, 1L));
+
+        // when
+        String before = commentService.getCommentsETag(todoId);
+        String afterDelete = commentService.getCommentsETag(todoId);
+        String unchanged = commentService.getCommentsETag(todoId);
+
+        // then
+        assertThat(afterDelete).isNotEqualTo(before);
+        assertThat(unchanged).isEqualTo(afterDelete);
+    }
 }
@@ -28,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.verify;
 
 
@@ -48,7 +49,7 @@ class ManagerServiceTest {
         // given
         long todoId = 1L;
 //        given(todoRepository.findById(todoId)).willReturn(Optional.empty());
-        given(todoService.findTodoByIdOrElseThrow(todoId)).willThrow(new InvalidRequestException("Todo not found"));
+        willThrow(new InvalidRequestException("Todo not found")).given(todoService).validateTodoExists(todoId);
 
         // when & then
         InvalidRequestException exception = assertThrows(InvalidRequestException.class,
@@ -124,24 +125,19 @@ class ManagerServiceTest {
     public void manager_목록_조회에_성공한다() {
         // given
         long todoId = 1L;
-        User user = new User("user1@example.com", "password", UserRole.USER);
-        Todo todo = new Todo("Title", "Contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
+        ManagerResponse managerResponse = new ManagerResponse(1L, 1L, "user1@example.com");
+        List<ManagerResponse> managerList = List.of(managerResponse);
 
-        Manager mockManager = new Manager(todo.getUser(), todo);
-        List<Manager> managerList = List.of(mockManager);
-
-//        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
-        given(todoService.findTodoByIdOrElseThrow(todoId)).willReturn(todo);
-        given(managerRepository.findByTodoIdWithUser(todoId)).willReturn(managerList);
+        given(managerRepository.findResponsesByTodoId(todoId)).willReturn(managerList);
 
         // when
         List<ManagerResponse> managerResponses = managerService.getManagers(todoId);
 
         // then
+        verify(todoService).validateTodoExists(todoId);
         assertEquals(1, managerResponses.size());
-        assertEquals(mockManager.getId(), managerResponses.get(0).getId());
-        assertEquals(mockManager.getUser().getEmail(), managerResponses.get(0).getUser().getEmail());
+        assertEquals(managerResponse.getId(), managerResponses.get(0).getId());
+        assertEquals("user1@example.com", managerResponses.get(0).getUser().getEmail());
     }
 
     @Test // 테스트코드 샘플
@@ -21,6 +21,10 @@ public class TodoAdminServiceTest {
     private TodoRepository todoRepository;
     @Mock
     private TodoService todoService;
+    @Mock
+    private TodoFeedHead todoFeedHead;
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
     @InjectMocks
     private TodoAdminService todoAdminService;
 
@@ -36,6 +40,6 @@ public class TodoAdminServiceTest {
         todoAdminService.deleteTodo(todoId);
 
         // then
-        verify(todoRepository, times(1)).deleteById(todoId);
+        verify(todoRepository, times(1)).deleteWithChildrenById(todoId);
     }
 }
@@ -0,0 +1,72 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoBulkBatchingTest {
+
+    private static final int TODO_COUNT = 120;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoBulkService todoBulkService;
+
+    private Statistics statistics;
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        User user = userRepository.save(new User(UUID.randomUUID() + "@example.com", "password", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+    }
+
+    @Test
+    void saveTodos에서_일정과_담당자를_건마다가_아니라_배치로_INSERT_하는가() {
+        // given
+        List<TodoRequest> requests = IntStream.range(0, TODO_COUNT)
+                .mapToObj(i -> new TodoRequest("title " + i, "contents " + i))
+                .toList();
+        given(weatherClient.getTodayWeatherAsync()).willReturn(CompletableFuture.completedFuture("Sunny"));
+        statistics.clear();
+
+        // when
+        List<TodoSaveResponse> responses = todoBulkService.saveTodos(authUser, requests);
+
+        // then
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2L * TODO_COUNT);
+        // 일정/담당자 INSERT 배치 각 3번 + id 블록(50개) 발급 각 3번, 건마다 보냈다면 240번 이상
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(30);
+        assertThat(responses).extracting(TodoSaveResponse::getId).doesNotHaveDuplicates().doesNotContainNull();
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.todo.dto.request.TodoRequest;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * H2(MySQL 모드)에서 일정 20,000건을 한 건씩 POST /todos 경로(saveTodo)로 저장할 때와
+ * POST /todos/bulk 경로(saveTodos, 1,000건씩)로 저장할 때, 같은 대량 저장에서 JDBC 배치를 끄고
+ * 한 건씩 INSERT 할 때의 처리량(건/초)과 DB로 보낸 문장 수를 비교한다.
+ * 날씨 조회는 외부 호출을 빼고 저장 비용만 비교하도록 고정 값을 돌려주는 목으로 바꾼다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TodoBulkBenchmarkTest {
+
+    private static final int TODO_COUNT = 20_000;
+    private static final int BULK_SIZE = 1_000;
+    private static final int WARMUP = 2_000;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private TodoBulkService todoBulkService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AuthUser authUser;
+    private User user;
+
+    @BeforeAll
+    void setUp() {
+        user = userRepository.save(new User("bulk-bench@example.com", "password", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+    }
+
+    @Test
+    void 대량_저장이_한_건씩_저장하는_것보다_처리량이_높은가() {
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(weatherClient.getTodayWeatherAsync()).willReturn(CompletableFuture.completedFuture("Sunny"));
+        List<TodoRequest> requests = IntStream.range(0, TODO_COUNT)
+                .mapToObj(i -> new TodoRequest("title " + i, "contents " + i))
+                .toList();
+
+        // JIT 워밍업
+        saveOneByOne(requests.subList(0, WARMUP));
+        saveInBulk(requests.subList(0, WARMUP));
+        saveInBulkUnbatched(requests.subList(0, WARMUP));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Result oneByOne = measure(statistics, this::saveOneByOne, requests);
+        Result unbatched = measure(statistics, this::saveInBulkUnbatched, requests);
+        Result bulk = measure(statistics, this::saveInBulk, requests);
+
+        long expected = 3L * (WARMUP + TODO_COUNT);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos WHERE user_id = ?", Long.class, authUser.getId()))
+                .isEqualTo(expected);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM managers WHERE user_id = ?", Long.class, authUser.getId()))
+                .isEqualTo(expected);
+
+        log.info(String.format("%-16s %10s %12s %12s", "path", "ms", "todos/s", "statements"));
+        print("one-by-one", oneByOne);
+        print("bulk unbatched", unbatched);
+        print("bulk", bulk);
+        assertThat(bulk.nanos()).isLessThan(oneByOne.nanos());
+        assertThat(bulk.statements()).isLessThan(unbatched.statements() / 10);
+    }
+
+    private Result measure(Statistics statistics, Consumer<List<TodoRequest>> save, List<TodoRequest> requests) {
+        statistics.clear();
+        long start = System.nanoTime();
+        save.accept(requests);
+        long nanos = System.nanoTime() - start;
+        return new Result(nanos, statistics.getPrepareStatementCount());
+    }
+
+    private void saveOneByOne(List<TodoRequest> requests) {
+        requests.forEach(request -> todoService.saveTodo(authUser, request));
+    }
+
+    private void saveInBulk(List<TodoRequest> requests) {
+        for (int from = 0; from < requests.size(); from += BULK_SIZE) {
+            todoBulkService.saveTodos(authUser, requests.subList(from, Math.min(from + BULK_SIZE, requests.size())));
+        }
+    }
+
+    // saveTodos와 같은 엔티티를 같은 방식으로 저장하되 이 세션에서만 JDBC 배치를 끔
+    private void saveInBulkUnbatched(List<TodoRequest> requests) {
+        for (int from = 0; from < requests.size(); from += BULK_SIZE) {
+            List<Todo> todos = requests.subList(from, Math.min(from + BULK_SIZE, requests.size())).stream()
+                    .map(request -> new Todo(request.getTitle(), request.getContents(), "Sunny", user))
+                    .toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(1);
+                todoRepository.saveAll(todos);
+                todoRepository.flush();
+            });
+        }
+    }
+
+    private static void print(String path, Result result) {
+        log.info(String.format("%-16s %10d %12d %12d", path, result.nanos() / 1_000_000,
+                TODO_COUNT * 1_000_000_000L / result.nanos(), result.statements()));
+    }
+
+    private record Result(long nanos, long statements) {
+    }
+}
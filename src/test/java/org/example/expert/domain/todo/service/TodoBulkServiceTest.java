@@ -0,0 +1,135 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.validation.Validation;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.exception.custom.InvalidRequestException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoRequest;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TodoBulkServiceTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private TodoWeatherEnricher todoWeatherEnricher;
+    @Mock
+    private TodoFeedHead todoFeedHead;
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
+    @Captor
+    private ArgumentCaptor<List<Todo>> todosCaptor;
+
+    private TodoBulkService todoBulkService;
+    private final AuthUser authUser = new AuthUser(1L, "email@email.com", UserRole.USER);
+
+    @BeforeEach
+    void setUp() {
+        todoBulkService = new TodoBulkService(todoRepository, weatherClient, todoWeatherEnricher,
+                todoFeedHead, todoSearchIndex, Validation.buildDefaultValidatorFactory().getValidator(), 3);
+    }
+
+    @Test
+    void saveTodos에서_날씨를_한_번만_조회하고_일정과_담당자를_한_번에_저장하는가() {
+        // given
+        List<TodoRequest> requests = List.of(new TodoRequest("a", "1"), new TodoRequest("b", "2"));
+        given(weatherClient.getTodayWeatherAsync()).willReturn(CompletableFuture.completedFuture("Sunny"));
+        given(todoRepository.saveAll(anyList())).willAnswer(invocation -> assignIds(invocation.getArgument(0), 10L));
+
+        // when
+        List<TodoSaveResponse> responses = todoBulkService.saveTodos(authUser, requests);
+
+        // then
+        assertThat(responses).extracting(TodoSaveResponse::getId).containsExactly(10L, 11L);
+        assertThat(responses).extracting(TodoSaveResponse::getTitle).containsExactly("a", "b");
+        assertThat(responses).extracting(TodoSaveResponse::getWeather).containsOnly("Sunny");
+        verify(weatherClient, times(1)).getTodayWeatherAsync();
+        verify(todoRepository).saveAll(todosCaptor.capture());
+        assertThat(todosCaptor.getValue()).allSatisfy(todo -> {
+            assertThat(todo.getUser().getId()).isEqualTo(1L);
+            assertThat(todo.getManagers()).hasSize(1);
+        });
+        verify(todoRepository).flush();
+        verify(todoFeedHead).reloadAfterCommit();
+        verify(todoSearchIndex).indexAllAfterCommit(anyList());
+        verify(todoWeatherEnricher, never()).enqueueAllAfterCommit(anyList());
+    }
+
+    @Test
+    void saveTodos에서_비동기_보강_모드면_날씨_없이_저장하고_보강_큐에_넣는가() {
+        // given
+        List<TodoRequest> requests = List.of(new TodoRequest("a", "1"));
+        given(todoWeatherEnricher.isEnabled()).willReturn(true);
+        given(todoRepository.saveAll(anyList())).willAnswer(invocation -> assignIds(invocation.getArgument(0), 10L));
+
+        // when
+        todoBulkService.saveTodos(authUser, requests);
+
+        // then
+        verifyNoInteractions(weatherClient);
+        verify(todoWeatherEnricher).enqueueAllAfterCommit(List.of(10L));
+    }
+
+    @Test
+    void saveTodos에서_최대_건수를_넘으면_IRE를_던지는가() {
+        // given
+        List<TodoRequest> requests = Collections.nCopies(4, new TodoRequest("a", "1"));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoBulkService.saveTodos(authUser, requests));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("한 번에 저장할 수 있는 일정은 최대 3건입니다.");
+        verifyNoInteractions(todoRepository);
+    }
+
+    @Test
+    void saveTodos에서_하나라도_검증에_실패하면_아무것도_저장하지_않는가() {
+        // given
+        List<TodoRequest> requests = List.of(new TodoRequest("a", "1"), new TodoRequest(" ", "2"));
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoBulkService.saveTodos(authUser, requests));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("[1] 일정 제목은 필수 입력값입니다.");
+        verifyNoInteractions(todoRepository);
+    }
+
+    // 저장할 때 id가 발급되는 것처럼 firstId부터 차례로 채움
+    private static List<Todo> assignIds(List<Todo> todos, long firstId) {
+        for (int i = 0; i < todos.size(); i++) {
+            ReflectionTestUtils.setField(todos.get(i), "id", firstId + i);
+        }
+        return todos;
+    }
+}
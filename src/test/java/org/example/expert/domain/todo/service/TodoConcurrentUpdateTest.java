@@ -0,0 +1,95 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.exception.custom.PreconditionFailedException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.controller.TodoController;
+import org.example.expert.domain.todo.dto.request.TodoRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 요청이 같은 버전을 읽고 동시에 If-Match로 수정할 때 하나만 반영되고 다른 하나는 412를 받는지 실제 DB에서 확인한다.
+ * 처리량 비교는 TodoContentionBenchmarkTest에서 한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoConcurrentUpdateTest {
+
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private TodoController todoController;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void updateTodo에서_같은_ETag로_동시에_수정하면_하나만_반영되고_하나는_412를_받는가() throws Exception {
+        // given
+        User user = userRepository.save(new User(UUID.randomUUID() + "@example.com", "password", UserRole.USER));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                long todoId = todoRepository.save(new Todo("title", "initial", "Sunny", user)).getId();
+                String eTag = todoController.getTodo(todoId, null).getHeaders().getETag();
+                // 두 요청이 모두 같은 버전을 읽은 뒤 동시에 수정
+                CyclicBarrier barrier = new CyclicBarrier(2);
+
+                // when
+                List<Future<String>> results = new ArrayList<>();
+                for (String contents : List.of("A", "B")) {
+                    results.add(executorService.submit(() -> {
+                        barrier.await(5, TimeUnit.SECONDS);
+                        try {
+                            todoController.updateTodo(authUser, todoId, eTag, new TodoRequest(null, contents));
+                            return contents;
+                        } catch (PreconditionFailedException | OptimisticLockingFailureException e) {
+                            // GlobalExceptionHandler가 둘 다 412로 응답
+                            return null;
+                        }
+                    }));
+                }
+                List<String> applied = new ArrayList<>();
+                for (Future<String> result : results) {
+                    String contents = result.get(10, TimeUnit.SECONDS);
+                    if (contents != null) {
+                        applied.add(contents);
+                    }
+                }
+
+                // then
+                assertThat(applied).hasSize(1);
+                TodoResponse saved = todoRepository.findTodoResponseById(todoId).orElseThrow();
+                assertThat(saved.getContents()).isEqualTo(applied.get(0));
+                // 버전은 한 번만 올라감
+                assertThat(saved.getVersion()).isEqualTo(ResourceVersion.versionOf(eTag) + 1);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.exception.custom.PreconditionFailedException;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.controller.TodoController;
+import org.example.expert.domain.todo.dto.request.TodoRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2(MySQL 모드)에서 스레드 8개가 같은 일정의 내용(숫자)을 읽고 1 더해 쓰는 일을 각각 200번 성공할 때까지
+ * 반복한다. 클라이언트처럼 GET /todos/{id}로 읽고 PATCH /todos/{id}로 쓰며(컨트롤러 직접 호출),
+ * If-Match 없이 쓸 때와 조회 때 받은 ETag를 If-Match로 보낼 때의 처리량, 412 횟수, 잃어버린 수정 수를 비교한다.
+ * 412를 받으면 다시 읽어서 재시도한다.
+ */
+@Slf4j
+@Tag("benchmark")
+// 세션 통계 로그와 버전 충돌마다 남는 배치 오류 로그가 결과를 덮지 않도록 끔
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=false",
+        "logging.level.org.hibernate.orm.jdbc.batch=OFF"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TodoContentionBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int UPDATES_PER_THREAD = 200;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Autowired
+    private TodoController todoController;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private AuthUser authUser;
+
+    @BeforeAll
+    void setUp() {
+        user = userRepository.save(new User("contention-bench@example.com", "password", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+    }
+
+    @Test
+    void If_Match로_수정하면_경합이_있어도_잃어버리는_수정이_없는가() throws Exception {
+        // JIT 워밍업
+        run(false);
+        run(true);
+
+        Result blind = run(false);
+        Result conditional = run(true);
+
+        log.info(String.format("%-10s %10s %12s %10s %8s", "mode", "ms", "updates/s", "412", "lost"));
+        print("no-match", blind);
+        print("if-match", conditional);
+        assertThat(conditional.lost()).isZero();
+    }
+
+    private Result run(boolean useIfMatch) throws Exception {
+        long todoId = todoRepository.save(new Todo("counter", "0", "Sunny", user)).getId();
+        AtomicLong conflicts = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < UPDATES_PER_THREAD; n++) {
+                    while (!increment(todoId, useIfMatch)) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long nanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        long expected = (long) THREADS * UPDATES_PER_THREAD;
+        long actual = Long.parseLong(todoRepository.findTodoResponseById(todoId).orElseThrow().getContents());
+        return new Result(nanos, conflicts.get(), expected - actual);
+    }
+
+    // 읽고 1 더해 씀, 412(If-Match 불일치 또는 flush 때 버전 충돌)면 false
+    private boolean increment(long todoId, boolean useIfMatch) {
+        ResponseEntity<TodoResponse> read = todoController.getTodo(todoId, null);
+        long value = Long.parseLong(read.getBody().getContents());
+        String ifMatch = useIfMatch ? read.getHeaders().getETag() : null;
+        try {
+            todoController.updateTodo(authUser, todoId, ifMatch, new TodoRequest(null, String.valueOf(value + 1)));
+            return true;
+        } catch (PreconditionFailedException | OptimisticLockingFailureException e) {
+            return false;
+        }
+    }
+
+    private static void print(String mode, Result result) {
+        long updates = (long) THREADS * UPDATES_PER_THREAD;
+        log.info(String.format("%-10s %10d %12d %10d %8d", mode, result.nanos() / 1_000_000,
+                updates * 1_000_000_000L / result.nanos(), result.conflicts(), result.lost()));
+    }
+
+    private record Result(long nanos, long conflicts, long lost) {
+    }
+}
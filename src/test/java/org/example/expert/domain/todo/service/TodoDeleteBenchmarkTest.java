@@ -0,0 +1,140 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2(MySQL 모드)에서 댓글 50,000개와 담당자 100명이 달린 일정을 삭제할 때, 예전처럼 댓글과 담당자를 엔티티로
+ * 읽어 REMOVE를 전파해 지우는 경로와 deleteTodo(벌크 DELETE 세 번)의 시간, DB로 보낸 문장 수,
+ * 영속성 컨텍스트에 올린 엔티티 수(메모리 사용량에 비례)를 비교한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TodoDeleteBenchmarkTest {
+
+    private static final int COMMENT_COUNT = 50_000;
+    private static final int MANAGER_COUNT = 100;
+    private static final int WARMUP_COMMENTS = 5_000;
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long userId;
+
+    @BeforeAll
+    void setUp() {
+        userId = reserveIds("users", 1);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, 'delete-bench@example.com', 'x', 'USER')", userId);
+    }
+
+    @Test
+    void 벌크_삭제가_엔티티를_하나씩_지우는_것보다_빠르고_엔티티를_올리지_않는가() {
+        // JIT 워밍업
+        deleteByEntityRemoval(seedTodo(WARMUP_COMMENTS));
+        todoService.deleteTodo(userId, seedTodo(WARMUP_COMMENTS));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Result removal = measure(statistics, this::deleteByEntityRemoval, seedTodo(COMMENT_COUNT));
+        Result bulk = measure(statistics, todoId -> todoService.deleteTodo(userId, todoId), seedTodo(COMMENT_COUNT));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE user_id = ?", Long.class, userId)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM managers WHERE user_id = ?", Long.class, userId)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos WHERE user_id = ?", Long.class, userId)).isZero();
+
+        log.info(String.format("%-16s %10s %12s %12s", "path", "ms", "statements", "entities"));
+        print("entity removal", removal);
+        print("bulk delete", bulk);
+        assertThat(bulk.nanos()).isLessThan(removal.nanos());
+        assertThat(bulk.entities()).isLessThanOrEqualTo(1);
+    }
+
+    private Result measure(Statistics statistics, LongConsumer delete, long todoId) {
+        statistics.clear();
+        long start = System.nanoTime();
+        delete.accept(todoId);
+        long nanos = System.nanoTime() - start;
+        return new Result(nanos, statistics.getPrepareStatementCount(), statistics.getEntityLoadCount());
+    }
+
+    // 이전 매핑(comments REMOVE, managers ALL)이 하던 일: 자식을 모두 읽어 영속성 컨텍스트에 올리고 한 건씩 DELETE
+    private void deleteByEntityRemoval(long todoId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Todo todo = entityManager.find(Todo.class, todoId);
+            todo.getComments().forEach(entityManager::remove);
+            todo.getManagers().forEach(entityManager::remove);
+            entityManager.remove(todo);
+        });
+    }
+
+    // 일정 1건과 댓글/담당자를 JDBC로 바로 넣음, 측정에서는 제외
+    private long seedTodo(int commentCount) {
+        long todoId = reserveIds("todos", 1);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, 'title', 'contents', 'Sunny', ?, ?, ?)",
+                todoId, userId, now, now);
+
+        long firstCommentId = reserveIds("comments", commentCount);
+        List<Object[]> comments = new ArrayList<>(1000);
+        for (int i = 0; i < commentCount; i++) {
+            comments.add(new Object[]{firstCommentId + i, "comment" + i, todoId, userId, now, now});
+            if (comments.size() == 1000) {
+                jdbcTemplate.batchUpdate("INSERT INTO comments (id, contents, todo_id, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)", comments);
+                comments.clear();
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, contents, todo_id, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)", comments);
+
+        long firstManagerId = reserveIds("managers", MANAGER_COUNT);
+        List<Object[]> managers = new ArrayList<>(MANAGER_COUNT);
+        for (int i = 0; i < MANAGER_COUNT; i++) {
+            managers.add(new Object[]{firstManagerId + i, todoId, userId});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO managers (id, todo_id, user_id) VALUES (?, ?, ?)", managers);
+        return todoId;
+    }
+
+    private long reserveIds(String sequenceName, int count) {
+        jdbcTemplate.update("UPDATE id_generators SET next_val = next_val + ? WHERE sequence_name = ?", count, sequenceName);
+        return jdbcTemplate.queryForObject(
+                "SELECT next_val - ? FROM id_generators WHERE sequence_name = ?", Long.class, count, sequenceName);
+    }
+
+    private static void print(String path, Result result) {
+        log.info(String.format("%-16s %10d %12d %12d", path, result.nanos() / 1_000_000, result.statements(), result.entities()));
+    }
+
+    private record Result(long nanos, long statements, long entities) {
+    }
+}
@@ -0,0 +1,212 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TodoFeedHeadTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    // id가 클수록 최근에 수정된 일정, DB에는 total건이 있고 그중 최근 capacity건을 메모리에 올림
+    private TodoFeedHead loadedHead(int capacity, long total) {
+        List<TodoResponse> newest = LongStream.iterate(total, id -> id > Math.max(0, total - capacity), id -> id - 1)
+                .mapToObj(id -> todoResponseOf(id, BASE.plusMinutes(id)))
+                .toList();
+        given(todoRepository.findFirstPageByCursor(PageRequest.of(0, capacity))).willReturn(newest);
+        given(todoRepository.count()).willReturn(total);
+
+        TodoFeedHead todoFeedHead = new TodoFeedHead(todoRepository, new SimpleMeterRegistry(), capacity);
+        todoFeedHead.load();
+        return todoFeedHead;
+    }
+
+    @Test
+    void page에서_메모리_구간_안의_페이지는_최신순으로_응답하는가() {
+        // given
+        TodoFeedHead todoFeedHead = loadedHead(5, 20);
+
+        // when
+        Optional<Page<TodoResponse>> page = todoFeedHead.page(2, 2);
+
+        // then
+        assertThat(page).isPresent();
+        assertThat(page.get().getContent()).extracting(TodoResponse::getId).containsExactly(18L, 17L);
+        assertThat(page.get().getTotalElements()).isEqualTo(20);
+    }
+
+    @Test
+    void page에서_메모리_구간을_넘는_페이지는_비어_있는가() {
+        // given
+        TodoFeedHead todoFeedHead = loadedHead(5, 20);
+
+        // when & then
+        assertThat(todoFeedHead.page(3, 2)).isEmpty();
+    }
+
+    @Test
+    void page에서_전체가_메모리에_있으면_마지막_페이지도_응답하는가() {
+        // given
+        TodoFeedHead todoFeedHead = loadedHead(5, 3);
+
+        // when
+        Optional<Page<TodoResponse>> page = todoFeedHead.page(2, 2);
+
+        // then
+        assertThat(page).isPresent();
+        assertThat(page.get().getContent()).extracting(TodoResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    void addAfterCommit에서_새_일정이_맨_앞에_들어가고_용량을_넘는_가장_오래된_일정은_빠지는가() {
+        // given
+        TodoFeedHead todoFeedHead = loadedHead(3, 10);
+
+        // when
+        todoFeedHead.addAfterCommit(todoOf(11L, BASE.plusMinutes(11)), userResponse());
+
+        // then
+        Page<TodoResponse> page = todoFeedHead.page(1, 3).orElseThrow();
+        assertThat(page.getContent()).extracting(TodoResponse::getId).containsExactly(11L, 10L, 9L);
+        assertThat(page.getTotalElements()).isEqualTo(11);
+    }
+
+    @Test
+    void updateAfterCommit에서_수정된_일정이_맨_앞으로_옮겨지고_늦게_온_이전_수정은_무시되는가() {
+        // given
+        TodoFeedHead todoFeedHead = loadedHead(3, 10);
+
+        // when
+        todoFeedHead.updateAfterCommit(todoOf(8L, BASE.plusMinutes(30)), userResponse());
+        todoFeedHead.updateAfterCommit(todoOf(8L, BASE.plusMinutes(20)), userResponse());
+
+        // then
+        Page<TodoResponse> page = todoFeedHead.page(1, 3).orElseThrow();
+        assertThat(page.getContent()).extracting(TodoResponse::getId).containsExactly(8L, 10L, 9L);
+        assertThat(page.getContent().get(0).getModifiedAt()).isEqualTo(BASE.plusMinutes(30));
+    }
+
+    @Test
+    void removeAfterCommit에서_삭제된_일정이_빠지고_비게_된_자리는_DB에서_읽는가() {
+        // given
+        TodoFeedHead todoFeedHead = loadedHead(3, 10);
+
+        // when
+        todoFeedHead.removeAfterCommit(9L);
+
+        // then
+        assertThat(todoFeedHead.page(1, 2).orElseThrow().getContent())
+                .extracting(TodoResponse::getId).containsExactly(10L, 8L);
+        assertThat(todoFeedHead.page(1, 3)).isEmpty();
+    }
+
+    @Test
+    void after에서_커서_다음부터_응답하고_메모리_구간을_넘으면_비어_있는가() {
+        // given
+        TodoFeedHead todoFeedHead = loadedHead(5, 20);
+        TodoCursor cursor = new TodoCursor(BASE.plusMinutes(19), 19L);
+
+        // when
+        Optional<List<TodoResponse>> inMemory = todoFeedHead.after(cursor, 3);
+        Optional<List<TodoResponse>> beyond = todoFeedHead.after(cursor, 5);
+
+        // then
+        assertThat(inMemory.orElseThrow()).extracting(TodoResponse::getId).containsExactly(18L, 17L, 16L);
+        assertThat(beyond).isEmpty();
+    }
+
+    @Test
+    void 트랜잭션_안에서의_변경은_커밋된_뒤에_반영되는가() {
+        // given
+        TodoFeedHead todoFeedHead = loadedHead(3, 10);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            todoFeedHead.addAfterCommit(todoOf(11L, BASE.plusMinutes(11)), userResponse());
+
+            // then
+            assertThat(todoFeedHead.page(1, 1).orElseThrow().getContent())
+                    .extracting(TodoResponse::getId).containsExactly(10L);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(todoFeedHead.page(1, 1).orElseThrow().getContent())
+                    .extracting(TodoResponse::getId).containsExactly(11L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void page에서_동시에_수정이_반영되는_중에도_짧거나_중복된_페이지를_응답하지_않는가() throws Exception {
+        // given
+        TodoFeedHead todoFeedHead = loadedHead(5, 20);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // 메모리 구간 안의 일정을 계속 최신으로 수정 (자리를 옮기는 동안 지웠다가 다시 넣음)
+        Future<?> writer = executorService.submit(() -> {
+            for (int i = 1; running.get(); i++) {
+                long id = 16 + i % 5;
+                todoFeedHead.updateAfterCommit(todoOf(id, BASE.plusDays(1).plusSeconds(i)), userResponse());
+            }
+        });
+
+        // when & then
+        try {
+            for (int i = 0; i < 100_000; i++) {
+                List<TodoResponse> content = todoFeedHead.page(1, 5).orElseThrow().getContent();
+                assertThat(content).hasSize(5);
+                assertThat(content).extracting(TodoResponse::getId).doesNotHaveDuplicates();
+            }
+        } finally {
+            running.set(false);
+            writer.get(5, TimeUnit.SECONDS);
+            executorService.shutdown();
+        }
+    }
+
+    private static Todo todoOf(Long id, LocalDateTime modifiedAt) {
+        Todo todo = new Todo("title " + id, "contents " + id, "weather", null);
+        ReflectionTestUtils.setField(todo, "id", id);
+        ReflectionTestUtils.setField(todo, "createdAt", modifiedAt);
+        ReflectionTestUtils.setField(todo, "modifiedAt", modifiedAt);
+        return todo;
+    }
+
+    private static TodoResponse todoResponseOf(Long id, LocalDateTime modifiedAt) {
+        return new TodoResponse(id, "title " + id, "contents " + id, "weather", 1L, "email@email.com", modifiedAt, modifiedAt, 0L);
+    }
+
+    private static UserResponse userResponse() {
+        return new UserResponse(1L, "email@email.com");
+    }
+}
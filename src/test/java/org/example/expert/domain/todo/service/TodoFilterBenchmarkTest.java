@@ -0,0 +1,179 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.TodoFilter;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.support.CapturingStatementInspector;
+import org.example.expert.support.QueryPlans;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2(MySQL 모드)에 할일 1,000,000건(작성자 1,000명, 날씨 7종, 약 1년치 수정일)을 넣고
+ * 조건별 목록 조회의 실행 계획과 첫 페이지/깊은 페이지 조회 시간을 확인한다.
+ * 실행 계획은 TodoQueryRepositoryImpl이 실제로 만든 목록/COUNT SQL로 확인하며, 모든 조합이 복합 인덱스로
+ * 범위를 좁혀야 하고 전체 스캔이 하나라도 있으면 실패한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = CapturingStatementInspector.PROPERTY)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TodoFilterBenchmarkTest {
+
+    private static final int TODO_COUNT = 1_000_000;
+    private static final int USER_COUNT = 1_000;
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy", "Foggy", "Stormy"};
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int PAGE_SIZE = 10;
+    private static final int DEEP_PAGE = 100;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long firstUserId;
+
+    @BeforeAll
+    void seed() {
+        firstUserId = reserveIds("users", USER_COUNT);
+        List<Object[]> users = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(new Object[]{firstUserId + i, "bench" + i + "@example.com"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, email, password, user_role) VALUES (?, ?, 'x', 'USER')", users);
+        long firstTodoId = reserveIds("todos", TODO_COUNT);
+
+        // 30초 간격이면 1,000,000건이 약 347일에 걸침, 작성자와 날씨가 서로 얽히지 않도록 다른 주기로 배정
+        List<Object[]> rows = new ArrayList<>(5000);
+        for (int i = 0; i < TODO_COUNT; i++) {
+            Timestamp modifiedAt = Timestamp.valueOf(BASE.plusSeconds(30L * i));
+            rows.add(new Object[]{firstTodoId + i, "t" + i, "c", WEATHERS[(i / USER_COUNT) % WEATHERS.length],
+                    firstUserId + i % USER_COUNT, modifiedAt, modifiedAt});
+            if (rows.size() == 5000) {
+                insertTodos(rows);
+                rows.clear();
+            }
+        }
+        insertTodos(rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void 조건별_목록_조회가_인덱스_범위_안에서_끝나는가() {
+        LocalDateTime weekFrom = BASE.plusDays(180);
+        LocalDateTime monthFrom = BASE.plusDays(90);
+        List<Case> cases = List.of(
+                new Case("weather", new TodoFilter("Sunny", null, null, null)),
+                new Case("author", new TodoFilter(null, firstUserId, null, null)),
+                new Case("modifiedAt 7d", new TodoFilter(null, null, weekFrom, weekFrom.plusDays(7))),
+                new Case("weather+modifiedAt 7d", new TodoFilter("Rainy", null, weekFrom, weekFrom.plusDays(7))),
+                new Case("all 30d", new TodoFilter("Sunny", firstUserId, monthFrom, monthFrom.plusDays(30)))
+        );
+
+        for (Case c : cases) {
+            List<String> statements = emittedSql(c.filter());
+            // 깊은 페이지라 목록 쿼리와 COUNT 쿼리가 모두 실행됨
+            assertThat(statements).as(c.name()).hasSize(2);
+            for (String sql : statements) {
+                String plan = explain(sql);
+                assertThat(plan).as("%s: %s", c.name(), plan).doesNotContain(".tableScan");
+                assertThat(plan).as("%s: %s", c.name(), plan).contains("idx_todos_");
+            }
+            Page<TodoResponse> first = todoService.getTodos(c.filter(), 1, PAGE_SIZE);
+            assertThat(first.getContent()).isNotEmpty();
+            assertThat(first.getContent()).extracting(TodoResponse::getModifiedAt)
+                    .isSortedAccordingTo((a, b) -> b.compareTo(a));
+        }
+
+        for (Case c : cases) {
+            warmUp(() -> todoService.getTodos(c.filter(), 1, PAGE_SIZE));
+            warmUp(() -> todoService.getTodos(c.filter(), DEEP_PAGE, PAGE_SIZE));
+        }
+
+        log.info(String.format("%-24s %10s %14s %14s  %s", "filter", "matches", "page1(us)", "page100(us)", "index"));
+        for (Case c : cases) {
+            long matches = todoService.getTodos(c.filter(), 1, PAGE_SIZE).getTotalElements();
+            long firstMicros = measure(() -> todoService.getTodos(c.filter(), 1, PAGE_SIZE));
+            long deepMicros = measure(() -> todoService.getTodos(c.filter(), DEEP_PAGE, PAGE_SIZE));
+            log.info(String.format("%-24s %10d %14d %14d  %s",
+                    c.name(), matches, firstMicros, deepMicros, indexOf(explain(emittedSql(c.filter()).get(0)))));
+        }
+    }
+
+    private void insertTodos(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    // 엔티티 id는 id_generators 테이블에서 발급되므로 JDBC로 넣을 행의 id 구간을 먼저 확보해 겹치지 않게 함
+    private long reserveIds(String sequenceName, int count) {
+        jdbcTemplate.update("UPDATE id_generators SET next_val = next_val + ? WHERE sequence_name = ?", count, sequenceName);
+        return jdbcTemplate.queryForObject(
+                "SELECT next_val - ? FROM id_generators WHERE sequence_name = ?", Long.class, count, sequenceName);
+    }
+
+    // TodoQueryRepositoryImpl이 조건에 따라 만든 SQL (목록 쿼리, COUNT 쿼리 순)
+    private List<String> emittedSql(TodoFilter filter) {
+        return CapturingStatementInspector.capture(
+                () -> todoRepository.findTodoResponses(filter, PageRequest.of(DEEP_PAGE - 1, PAGE_SIZE)));
+    }
+
+    private String explain(String sql) {
+        return QueryPlans.explain(jdbcTemplate, sql);
+    }
+
+    // todos 테이블에 쓰인 인덱스 이름
+    private static String indexOf(String plan) {
+        int start = plan.indexOf("idx_todos_");
+        if (start < 0) {
+            return "-";
+        }
+        int end = start;
+        while (end < plan.length() && (Character.isLetterOrDigit(plan.charAt(end)) || plan.charAt(end) == '_')) {
+            end++;
+        }
+        return plan.substring(start, end);
+    }
+
+    private static void warmUp(Supplier<?> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+    }
+
+    // 평균 응답 시간(us)
+    private static long measure(Supplier<?> query) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / ITERATIONS / 1_000;
+    }
+
+    private record Case(String name, TodoFilter filter) {
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * H2(MySQL 모드)에 할일 100,010건을 넣고 페이지가 깊어질 때 OFFSET 방식(+COUNT)과
+ * 커서 방식의 한 페이지 조회 시간을 비교한다. 커서 방식은 페이지 번호와 관계없이 일정해야 한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TodoPaginationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int DEEPEST_PAGE = 10_000;
+    private static final int TODO_COUNT = PAGE_SIZE * DEEPEST_PAGE + PAGE_SIZE;
+    private static final int[] PAGES = {1, 10, 100, 1_000, DEEPEST_PAGE};
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private TodoFeedHead todoFeedHead;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        long userId = reserveIds("users", 1);
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, 'bench@example.com', 'x', 'USER')", userId);
+        long firstTodoId = reserveIds("todos", TODO_COUNT);
+
+        // 두 건씩 같은 modifiedAt을 갖도록 해서 id로 순서를 정하는 경우도 함께 확인
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>(1000);
+        for (int i = 0; i < TODO_COUNT; i++) {
+            Timestamp modifiedAt = Timestamp.valueOf(base.plusSeconds(i / 2));
+            rows.add(new Object[]{firstTodoId + i, "title" + i, "contents" + i, "Sunny", userId, modifiedAt, modifiedAt});
+            if (rows.size() == 1000) {
+                insertTodos(rows);
+                rows.clear();
+            }
+        }
+        insertTodos(rows);
+        // JDBC로 직접 넣은 행은 커밋 이후 반영 대상이 아니므로 메모리 앞부분을 다시 읽음
+        todoFeedHead.reload();
+    }
+
+    @Test
+    void 깊은_페이지에서도_커서_방식의_조회_시간이_일정한가() {
+        String[] cursors = new String[PAGES.length];
+        for (int i = 0; i < PAGES.length; i++) {
+            int page = PAGES[i];
+            cursors[i] = cursorBefore(page);
+            TodoCursorResponse cursorPage = todoService.getTodosByCursor(cursors[i], PAGE_SIZE);
+            assertThat(idsOf(cursorPage.getContent())).containsExactlyElementsOf(expectedIds(page));
+            assertThat(cursorPage.isHasNext()).isTrue();
+        }
+
+        // 앞쪽 페이지가 JIT 워밍업 비용을 떠안지 않도록 모든 페이지를 먼저 한 바퀴 실행
+        for (int i = 0; i < PAGES.length; i++) {
+            int page = PAGES[i];
+            String cursor = cursors[i];
+            warmUp(() -> todoService.getTodos(page, PAGE_SIZE));
+            warmUp(() -> todoService.getTodosByCursor(cursor, PAGE_SIZE));
+        }
+
+        log.info(String.format("%-8s %14s %14s", "page", "offset(us)", "cursor(us)"));
+        for (int i = 0; i < PAGES.length; i++) {
+            int page = PAGES[i];
+            String cursor = cursors[i];
+            long offsetMicros = measure(() -> todoService.getTodos(page, PAGE_SIZE));
+            long cursorMicros = measure(() -> todoService.getTodosByCursor(cursor, PAGE_SIZE));
+            log.info(String.format("%-8d %14d %14d", page, offsetMicros, cursorMicros));
+        }
+    }
+
+    private void insertTodos(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO todos (id, title, contents, weather, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    // 엔티티 id는 id_generators 테이블에서 발급되므로 JDBC로 넣을 행의 id 구간을 먼저 확보해 겹치지 않게 함
+    private long reserveIds(String sequenceName, int count) {
+        jdbcTemplate.update("UPDATE id_generators SET next_val = next_val + ? WHERE sequence_name = ?", count, sequenceName);
+        return jdbcTemplate.queryForObject(
+                "SELECT next_val - ? FROM id_generators WHERE sequence_name = ?", Long.class, count, sequenceName);
+    }
+
+    // page 번째 페이지를 받기 위한 커서 (직전 페이지 마지막 행), 측정에서는 제외
+    private String cursorBefore(int page) {
+        if (page == 1) {
+            return "";
+        }
+        return jdbcTemplate.queryForObject(
+                "SELECT modified_at, id FROM todos ORDER BY modified_at DESC, id DESC LIMIT 1 OFFSET ?",
+                (rs, rowNum) -> new TodoCursor(rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2)).encode(),
+                (page - 1) * PAGE_SIZE - 1);
+    }
+
+    private List<Long> expectedIds(int page) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM todos ORDER BY modified_at DESC, id DESC LIMIT ? OFFSET ?",
+                Long.class, PAGE_SIZE, (page - 1) * PAGE_SIZE);
+    }
+
+    private static List<Long> idsOf(List<TodoResponse> todos) {
+        return todos.stream().map(TodoResponse::getId).toList();
+    }
+
+    private static void warmUp(Supplier<?> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+    }
+
+    // 평균 응답 시간(us)
+    private static long measure(Supplier<?> query) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / ITERATIONS / 1_000;
+    }
+}
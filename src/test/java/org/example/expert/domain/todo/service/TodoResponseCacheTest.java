@@ -0,0 +1,224 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.config.CacheConfig;
+import org.example.expert.config.exception.custom.InvalidRequestException;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.request.TodoRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TodoResponseCacheTest {
+
+    @Autowired
+    private TodoService todoService;
+    @Autowired
+    private TodoAdminService todoAdminService;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache cache;
+    private Statistics statistics;
+    private User user;
+    private AuthUser authUser;
+    private long todoId;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(CacheConfig.TODO_RESPONSES);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(new User(UUID.randomUUID() + "@example.com", "password", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), UserRole.USER);
+        todoId = todoRepository.save(new Todo("title", "contents", "Sunny", user)).getId();
+        statistics.clear();
+    }
+
+    @Test
+    void 같은_할일을_다시_조회하면_캐시에서_반환하는가() {
+        // given
+        double hitsBefore = cacheGets("hit");
+
+        // when
+        todoService.getTodo(todoId);
+        TodoResponse cached = todoService.getTodo(todoId);
+
+        // then
+        assertThat(cached.getTitle()).isEqualTo("title");
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(cacheGets("hit")).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    void 같은_키의_동시_미스는_한_번만_조회하는가() throws Exception {
+        // given
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TodoResponse>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return todoService.getTodo(todoId);
+            }));
+        }
+        start.countDown();
+        for (Future<TodoResponse> future : futures) {
+            assertThat(future.get().getId()).isEqualTo(todoId);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 할일을_수정하면_커밋된_뒤에_캐시에서_제거되는가() {
+        // given
+        todoService.getTodo(todoId);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            todoService.updateTodo(authUser, todoId, new TodoRequest("new title", "new contents"), null);
+
+            // then (커밋 전에는 남아 있음)
+            assertThat(cache.get(todoId)).isNotNull();
+        });
+
+        // then
+        assertThat(cache.get(todoId)).isNull();
+        assertThat(todoService.getTodo(todoId).getTitle()).isEqualTo("new title");
+    }
+
+    @Test
+    void 수정이_롤백되면_캐시를_유지하는가() {
+        // given
+        todoService.getTodo(todoId);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            todoService.updateTodo(authUser, todoId, new TodoRequest("new title", "new contents"), null);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(cache.get(todoId)).isNotNull();
+        assertThat(todoService.getTodo(todoId).getTitle()).isEqualTo("title");
+    }
+
+    @Test
+    void reloadTodo에서_DB보다_오래된_캐시_응답을_바꿔_넣는가() {
+        // given
+        TodoResponse stale = todoService.getTodo(todoId);
+        todoService.updateTodo(authUser, todoId, new TodoRequest("new title", "new contents"), null);
+        // 커밋 직전에 읽은 값이 제거 이후에 다시 채워진 상황
+        cache.put(todoId, stale);
+
+        // when
+        TodoResponse reloaded = todoService.reloadTodo(todoId);
+
+        // then
+        assertThat(reloaded.getVersion()).isEqualTo(stale.getVersion() + 1);
+        assertThat(todoService.getTodo(todoId).getTitle()).isEqualTo("new title");
+        assertThat(todoService.getTodoETag(todoId)).isEqualTo("\"" + reloaded.getVersion() + "\"");
+    }
+
+    @Test
+    void 할일을_삭제하면_캐시에서_제거되는가() {
+        // given
+        todoService.getTodo(todoId);
+
+        // when
+        todoService.deleteTodo(authUser.getId(), todoId);
+
+        // then
+        assertThat(cache.get(todoId)).isNull();
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodo(todoId));
+    }
+
+    @Test
+    void 관리자가_할일을_삭제해도_캐시에서_제거되는가() {
+        // given
+        todoService.getTodo(todoId);
+
+        // when
+        todoAdminService.deleteTodo(todoId);
+
+        // then
+        assertThat(cache.get(todoId)).isNull();
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodo(todoId));
+    }
+
+    @Test
+    void 댓글과_담당자가_있는_할일을_삭제하면_하나씩_읽지_않고_함께_삭제되는가() {
+        // given
+        Todo todo = todoRepository.findById(todoId).orElseThrow();
+        commentRepository.saveAll(List.of(new Comment("comment 1", user, todo), new Comment("comment 2", user, todo)));
+        managerRepository.save(new Manager(userRepository.save(new User(UUID.randomUUID() + "@example.com", "password", UserRole.USER)), todo));
+        statistics.clear();
+
+        // when
+        todoService.deleteTodo(authUser.getId(), todoId);
+
+        // then
+        assertThat(commentRepository.findResponsesByTodoId(todoId)).isEmpty();
+        assertThat(managerRepository.findResponsesByTodoId(todoId)).isEmpty();
+        assertThat(todoRepository.existsById(todoId)).isFalse();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CacheConfig.TODO_RESPONSES)
+                .tag("result", result)
+                .functionCounter().count();
+    }
+}
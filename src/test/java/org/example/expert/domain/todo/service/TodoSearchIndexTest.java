@@ -0,0 +1,126 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.dto.TodoSearchDocument;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TodoSearchIndexTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    private TodoSearchIndex indexWithCapacity(int maxDocuments) {
+        return new TodoSearchIndex(todoRepository, new SimpleMeterRegistry(), maxDocuments, 200, 32, 64, 2, 60);
+    }
+
+    @Test
+    void search에서_제목에_있는_단어가_내용에만_있는_단어보다_앞에_오는가() {
+        // given
+        TodoSearchIndex index = indexWithCapacity(100);
+        index.index(1L, "장보기", "주간 회의 준비물 사기");
+        index.index(2L, "주간 회의", "회의실 예약");
+        index.index(3L, "운동", "헬스장");
+
+        // when
+        List<Long> result = index.search("회의");
+
+        // then
+        assertThat(result).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void search에서_접두어로도_찾고_모든_검색어를_포함하는_일정만_반환하는가() {
+        // given
+        TodoSearchIndex index = indexWithCapacity(100);
+        index.index(1L, "Spring Boot 발표", "slides");
+        index.index(2L, "Spring 청소", "garage");
+        index.index(3L, "Springfield trip", "");
+
+        // when & then
+        assertThat(index.search("spr")).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.search("SPRING boo")).containsExactly(1L);
+        assertThat(index.search("spring")).startsWith(2L, 1L).endsWith(3L);
+    }
+
+    @Test
+    void index에서_수정되면_이전_단어로는_찾지_못하고_삭제되면_결과에서_빠지는가() {
+        // given
+        TodoSearchIndex index = indexWithCapacity(100);
+        index.index(1L, "old title", "");
+        index.index(2L, "title", "");
+
+        // when
+        index.index(1L, "new title", "");
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("old")).isEmpty();
+        assertThat(index.search("new")).containsExactly(1L);
+        assertThat(index.search("title")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void index에서_상한을_넘으면_가장_오래된_일정부터_빠지는가() {
+        // given
+        TodoSearchIndex index = indexWithCapacity(2);
+
+        // when
+        index.index(1L, "todo", "");
+        index.index(2L, "todo", "");
+        index.index(3L, "todo", "");
+
+        // then
+        assertThat(index.search("todo")).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rebuild에서_DB의_일정을_배치_단위로_모두_색인하는가() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(todoRepository.findSearchDocumentsAfterId(0L, PageRequest.of(0, 2))).willReturn(List.of(
+                new TodoSearchDocument(1L, "alpha", "", now), new TodoSearchDocument(2L, "beta", "", now)));
+        given(todoRepository.findSearchDocumentsAfterId(2L, PageRequest.of(0, 2))).willReturn(List.of(
+                new TodoSearchDocument(3L, "alpha beta", "", now)));
+        TodoSearchIndex index = indexWithCapacity(100);
+
+        // when
+        index.rebuild();
+
+        // then
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("alpha")).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void syncModifiedTodos에서_다른_노드가_수정한_일정을_반영하는가() {
+        // given
+        TodoSearchIndex index = indexWithCapacity(100);
+        index.index(1L, "before", "");
+        given(todoRepository.findSearchDocumentsModifiedAfter(any(LocalDateTime.class), anyLong(), eq(PageRequest.of(0, 2))))
+                .willReturn(List.of(new TodoSearchDocument(1L, "after", "", LocalDateTime.now())));
+
+        // when
+        index.syncModifiedTodos();
+
+        // then
+        assertThat(index.search("before")).isEmpty();
+        assertThat(index.search("after")).containsExactly(1L);
+    }
+}
@@ -2,8 +2,13 @@ package org.example.expert.domain.todo.service;
 
 import org.example.expert.client.WeatherClient;
 import org.example.expert.config.exception.custom.InvalidRequestException;
+import org.example.expert.config.exception.custom.PreconditionFailedException;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoFilter;
 import org.example.expert.domain.todo.dto.request.TodoRequest;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
@@ -22,11 +27,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -38,6 +46,12 @@ public class TodoServiceTest {
     private TodoRepository todoRepository;
     @Mock
     private WeatherClient weatherClient;
+    @Mock
+    private TodoWeatherEnricher todoWeatherEnricher;
+    @Mock
+    private TodoFeedHead todoFeedHead;
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
     @InjectMocks
     private TodoService todoService;
 
@@ -47,7 +61,7 @@ public class TodoServiceTest {
         long todoId = 1L;
         Todo todo = new Todo(todoId);
 
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo));
+        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
 
         // when
         Todo findTodo = todoService.findTodoByIdOrElseThrow(todoId);
@@ -98,6 +112,8 @@ public class TodoServiceTest {
         TodoRequest todoRequest = new TodoRequest(title, contents);
         Todo todo = new Todo(todoRequest.getTitle(), todoRequest.getContents(), weather, user);
 
+        given(weatherClient.getTodayWeather()).willReturn(weather);
+
         // when
         todoService.saveTodo(authUser, todoRequest);
 
@@ -116,6 +132,24 @@ public class TodoServiceTest {
         assertThat(todoSaveResponse.getWeather()).isEqualTo(todo.getWeather());
     }
 
+    @Test
+    void saveTodo에서_비동기_보강_모드이면_날씨_없이_저장하고_보강_큐에_넣는가() {
+        // given
+        AuthUser authUser = new AuthUser(1L, "email@email.com", UserRole.USER);
+        TodoRequest todoRequest = new TodoRequest("title", "contents");
+
+        given(todoWeatherEnricher.isEnabled()).willReturn(true);
+
+        // when
+        TodoSaveResponse todoSaveResponse = todoService.saveTodo(authUser, todoRequest);
+
+        // then
+        assertThat(todoSaveResponse.getWeather()).isNull();
+        verify(weatherClient, never()).getTodayWeather();
+        verify(todoRepository, times(1)).save(any(Todo.class));
+        verify(todoWeatherEnricher, times(1)).enqueueAfterCommit(todoSaveResponse.getId());
+    }
+
     @Test
     void getTodos에서_할일_리스트를_정상적으로_가져올_수_있는가() {
         // given
@@ -123,14 +157,13 @@ public class TodoServiceTest {
         int size = 10;
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        User user = new User(1L, "email@email.com", UserRole.USER);
-        List<Todo> todoList = List.of(
-                new Todo("title 1", "content 1", "weather1", user),
-                new Todo("title 2", "content 2", "weather2", user)
+        List<TodoResponse> todoList = List.of(
+                todoResponseOf(1L, LocalDateTime.now()),
+                todoResponseOf(2L, LocalDateTime.now())
         );
 
-        Page<Todo> mockPage = new PageImpl<>(todoList, pageable, todoList.size());
-        given(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).willReturn(mockPage);
+        Page<TodoResponse> mockPage = new PageImpl<>(todoList, pageable, todoList.size());
+        given(todoRepository.findTodoResponses(pageable)).willReturn(mockPage);
 
         // when
         Page<TodoResponse> todosPage = todoService.getTodos(page, size);
@@ -141,8 +174,151 @@ public class TodoServiceTest {
         assertThat(todosPage.getContent().get(0).getTitle()).isEqualTo("title 1");
         assertThat(todosPage.getContent().get(1).getTitle()).isEqualTo("title 2");
 
-        verify(todoRepository, times(1)).findAllByOrderByModifiedAtDesc(pageable);
+        verify(todoRepository, times(1)).findTodoResponses(pageable);
+
+    }
+
+    @Test
+    void searchTodos에서_색인_점수순으로_응답하고_DB에_없는_일정은_색인에서_빼는가() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(todoSearchIndex.search("회의")).willReturn(List.of(3L, 1L, 2L));
+        given(todoRepository.findTodoResponsesByIds(List.of(3L, 1L)))
+                .willReturn(List.of(todoResponseOf(1L, now), todoResponseOf(3L, now)));
+
+        // when
+        Page<TodoResponse> result = todoService.searchTodos("회의", 1, 2);
+
+        // then
+        assertThat(result.getContent()).extracting(TodoResponse::getId).containsExactly(3L, 1L);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        verify(todoSearchIndex, never()).remove(anyLong());
+    }
+
+    @Test
+    void searchTodos에서_삭제된_일정은_결과와_색인에서_빠지는가() {
+        // given
+        given(todoSearchIndex.search("회의")).willReturn(List.of(5L, 4L));
+        given(todoRepository.findTodoResponsesByIds(List.of(5L, 4L)))
+                .willReturn(List.of(todoResponseOf(4L, LocalDateTime.now())));
+
+        // when
+        Page<TodoResponse> result = todoService.searchTodos("회의", 1, 10);
+
+        // then
+        assertThat(result.getContent()).extracting(TodoResponse::getId).containsExactly(4L);
+        verify(todoSearchIndex).remove(5L);
+    }
+
+    @Test
+    void searchTodos에서_검색어가_비어_있으면_IRE를_던지는가() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.searchTodos(" ", 1, 10));
+        assertThat(exception.getMessage()).isEqualTo("검색어를 입력해 주세요.");
+    }
 
+    @Test
+    void getTodos에서_조건이_있으면_메모리를_거치지_않고_조건_조회를_하는가() {
+        // given
+        TodoFilter filter = new TodoFilter("Sunny", 1L, null, null);
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<TodoResponse> filtered = new PageImpl<>(List.of(todoResponseOf(1L, LocalDateTime.now())), pageable, 1);
+        given(todoRepository.findTodoResponses(filter, pageable)).willReturn(filtered);
+
+        // when
+        Page<TodoResponse> todosPage = todoService.getTodos(filter, 1, 10);
+
+        // then
+        assertThat(todosPage).isSameAs(filtered);
+        verify(todoFeedHead, never()).page(anyInt(), anyInt());
+    }
+
+    @Test
+    void TodoFilter에서_수정일_범위가_뒤집혀_있으면_IRE를_던지는가() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> new TodoFilter(null, null, now, now.minusDays(1)));
+        assertThat(exception.getMessage()).isEqualTo("수정일 검색 시작 시각은 종료 시각보다 앞서야 합니다.");
+    }
+
+    @Test
+    void getTodos에서_메모리에_있는_앞쪽_페이지는_DB를_조회하지_않는가() {
+        // given
+        int page = 1;
+        int size = 10;
+        Page<TodoResponse> memoryPage = new PageImpl<>(
+                List.of(todoResponseOf(1L, LocalDateTime.now())), PageRequest.of(page - 1, size), 1);
+        given(todoFeedHead.page(page, size)).willReturn(Optional.of(memoryPage));
+
+        // when
+        Page<TodoResponse> todosPage = todoService.getTodos(page, size);
+
+        // then
+        assertThat(todosPage).isSameAs(memoryPage);
+        verify(todoRepository, never()).findTodoResponses(any());
+    }
+
+    @Test
+    void getTodosByCursor에서_커서가_없으면_첫_페이지와_다음_커서를_반환하는가() {
+        // given
+        int size = 2;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<TodoResponse> todoList = List.of(
+                todoResponseOf(3L, modifiedAt),
+                todoResponseOf(2L, modifiedAt),
+                todoResponseOf(1L, modifiedAt.minusMinutes(1))
+        );
+        given(todoRepository.findFirstPageByCursor(PageRequest.of(0, size + 1))).willReturn(todoList);
+
+        // when
+        TodoCursorResponse response = todoService.getTodosByCursor("", size);
+
+        // then
+        assertThat(response.getContent()).extracting(TodoResponse::getId).containsExactly(3L, 2L);
+        assertThat(response.isHasNext()).isTrue();
+        TodoCursor nextCursor = TodoCursor.decode(response.getNextCursor());
+        assertThat(nextCursor.getModifiedAt()).isEqualTo(modifiedAt);
+        assertThat(nextCursor.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void getTodosByCursor에서_커서_위치_다음부터_조회하고_마지막_페이지면_다음_커서가_없는가() {
+        // given
+        int size = 2;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = new TodoCursor(modifiedAt, 2L).encode();
+        given(todoRepository.findNextPageByCursor(modifiedAt, 2L, PageRequest.of(0, size + 1)))
+                .willReturn(List.of(todoResponseOf(1L, modifiedAt.minusMinutes(1))));
+
+        // when
+        TodoCursorResponse response = todoService.getTodosByCursor(cursor, size);
+
+        // then
+        assertThat(response.getContent()).extracting(TodoResponse::getId).containsExactly(1L);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        verify(todoRepository, never()).findFirstPageByCursor(any());
+    }
+
+    @Test
+    void getTodosByCursor에서_size가_범위를_벗어나면_조회하지_않고_IRE를_던지는가() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("", 0));
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("", -1));
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("", 101));
+        verifyNoInteractions(todoRepository, todoFeedHead);
+    }
+
+    @Test
+    void getTodosByCursor에서_잘못된_커서면_IRE를_던지는가() {
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodosByCursor("not-a-cursor", 10));
+        verifyNoInteractions(todoRepository);
     }
 
     @Test
@@ -153,11 +329,10 @@ public class TodoServiceTest {
         String contents = "contents";
         String weather = "weather";
 
-        User user = new User(1L, "email@email.com", UserRole.USER);
-        Todo todo = new Todo(title, contents, weather, user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
+        LocalDateTime now = LocalDateTime.now();
+        TodoResponse projection = new TodoResponse(todoId, title, contents, weather, 1L, "email@email.com", now, now, 0L);
 
-        given(todoRepository.findByIdWithUser(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.findTodoResponseById(anyLong())).willReturn(Optional.of(projection));
 
         // when
         TodoResponse todoResponse = todoService.getTodo(todoId);
@@ -170,6 +345,35 @@ public class TodoServiceTest {
         assertThat(todoResponse.getWeather()).isEqualTo(weather);
     }
 
+    @Test
+    void getTodoETag에서_응답을_만들지_않고_버전만으로_ETag를_만드는가() {
+        // given
+        long todoId = 1L;
+        given(todoRepository.findVersionById(todoId)).willReturn(Optional.of(3L));
+
+        // when
+        String eTag = todoService.getTodoETag(todoId);
+
+        // then
+        assertThat(eTag).isEqualTo("\"3\"");
+        assertThat(ResourceVersion.versionOf(eTag)).isEqualTo(3L);
+        verify(todoRepository, never()).findTodoResponseById(anyLong());
+    }
+
+    @Test
+    void getTodoETag에서_할일이_없으면_IRE를_던지는가() {
+        // given
+        long todoId = 1L;
+        given(todoRepository.findVersionById(todoId)).willReturn(Optional.empty());
+
+        // when
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodoETag(todoId));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("Todo not found");
+    }
+
     @Test
     void updateTodo에서_할일_제목과_할일_내용을_정상적으로_수정할_수_있는가() {
         // given
@@ -185,10 +389,10 @@ public class TodoServiceTest {
         String newContents = "New Contents";
         TodoRequest todoRequest = new TodoRequest(newTitle, newContents);
 
-        given(todoRepository.findByIdWithUser(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.findLatestById(anyLong())).willReturn(Optional.of(todo));
 
         // when
-        TodoResponse updatedTodo = todoService.updateTodo(authUser, todoId, todoRequest);
+        TodoResponse updatedTodo = todoService.updateTodo(authUser, todoId, todoRequest, null);
 
         // then
         assertThat(updatedTodo.getTitle()).isEqualTo(newTitle);
@@ -196,7 +400,7 @@ public class TodoServiceTest {
         assertThat(updatedTodo.getWeather()).isEqualTo(weather);
         assertThat(updatedTodo.getUser().getId()).isEqualTo(userId);
 
-        verify(todoRepository, times(1)).findByIdWithUser(todoId);
+        verify(todoRepository, times(1)).findLatestById(todoId);
     }
 
     @Test
@@ -213,15 +417,15 @@ public class TodoServiceTest {
         String newTitle = "New Title";
         TodoRequest todoRequest = new TodoRequest(newTitle, null);
 
-        given(todoRepository.findByIdWithUser(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.findLatestById(anyLong())).willReturn(Optional.of(todo));
 
         // when
-        TodoResponse updatedTodo = todoService.updateTodo(authUser, todoId, todoRequest);
+        TodoResponse updatedTodo = todoService.updateTodo(authUser, todoId, todoRequest, null);
 
         // then
         assertThat(updatedTodo.getTitle()).isEqualTo(newTitle);
 
-        verify(todoRepository, times(1)).findByIdWithUser(todoId);
+        verify(todoRepository, times(1)).findLatestById(todoId);
     }
 
     @Test
@@ -238,15 +442,36 @@ public class TodoServiceTest {
         String newContents = "New Contents";
         TodoRequest todoRequest = new TodoRequest(null, newContents);
 
-        given(todoRepository.findByIdWithUser(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.findLatestById(anyLong())).willReturn(Optional.of(todo));
 
         // when
-        TodoResponse updatedTodo = todoService.updateTodo(authUser, todoId, todoRequest);
+        TodoResponse updatedTodo = todoService.updateTodo(authUser, todoId, todoRequest, null);
 
         // then
         assertThat(updatedTodo.getContents()).isEqualTo(newContents);
 
-        verify(todoRepository, times(1)).findByIdWithUser(todoId);
+        verify(todoRepository, times(1)).findLatestById(todoId);
+    }
+
+    @Test
+    void updateTodo에서_If_Match_버전이_현재_버전과_다르면_수정하지_않고_412를_던지는가() {
+        // given
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "email@email.com", UserRole.USER);
+        Todo todo = new Todo("title", "contents", "weather", User.fromAuthUser(authUser));
+        ReflectionTestUtils.setField(todo, "version", 2L);
+
+        given(todoRepository.findLatestById(anyLong())).willReturn(Optional.of(todo));
+
+        // when
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> todoService.updateTodo(authUser, todoId, new TodoRequest("new title", null), 1L));
+
+        // then
+        assertThat(exception.getMessage()).isEqualTo("일정이 다른 요청에서 먼저 수정되었습니다.");
+        assertThat(todo.getTitle()).isEqualTo("title");
+        verify(todoRepository, never()).flush();
+        verifyNoInteractions(todoFeedHead, todoSearchIndex);
     }
 
     @Test
@@ -262,11 +487,11 @@ public class TodoServiceTest {
 
         TodoRequest todoRequest = new TodoRequest();
 
-        given(todoRepository.findByIdWithUser(todoId)).willReturn(Optional.of(todo));
+        given(todoRepository.findLatestById(todoId)).willReturn(Optional.of(todo));
 
         // when & then
         assertThrows(InvalidRequestException.class,
-                () -> todoService.updateTodo(authUser, todoId, todoRequest),
+                () -> todoService.updateTodo(authUser, todoId, todoRequest, null),
                 "일정 작성자가 아닙니다.");
     }
 
@@ -276,13 +501,13 @@ public class TodoServiceTest {
         long todoId = 1L;
         long userId = 100L;
         Todo todo = new Todo("title", "contents", "weather", new User(userId));
-        given(todoRepository.findByIdWithUser(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
 
         // when
         todoService.deleteTodo(userId, todoId);
 
         // then
-        verify(todoRepository, times(1)).delete(todo);
+        verify(todoRepository, times(1)).deleteWithChildrenById(todoId);
     }
 
     @Test
@@ -291,11 +516,15 @@ public class TodoServiceTest {
         long userId = 1L;
         long todoId = 100L;
         Todo todo = new Todo("title", "contents", "weather", new User(2L));
-        given(todoRepository.findByIdWithUser(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.findById(anyLong())).willReturn(Optional.of(todo));
 
         // when & then
         assertThrows(InvalidRequestException.class,
                 () -> todoService.deleteTodo(userId, todoId),
                 "일정 작성자가 아닙니다.");
     }
+
+    private static TodoResponse todoResponseOf(Long id, LocalDateTime modifiedAt) {
+        return new TodoResponse(id, "title " + id, "contents " + id, "weather", 1L, "email@email.com", modifiedAt, modifiedAt, 0L);
+    }
 }
@@ -0,0 +1,157 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.config.CacheConfig;
+import org.example.expert.config.exception.custom.ServerException;
+import org.example.expert.domain.todo.dto.PendingWeatherTodo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoWeatherEnricher.PendingTodo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoWeatherEnricherTest {
+
+    @Mock
+    private WeatherClient weatherClient;
+    @Mock
+    private TodoRepository todoRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private TodoFeedHead todoFeedHead;
+
+    private static final LocalDateTime TODAY = LocalDateTime.of(2025, 1, 2, 9, 0);
+
+    private ConcurrentMapCacheManager cacheManager;
+    private TodoWeatherEnricher todoWeatherEnricher;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.TODO_RESPONSES);
+        todoWeatherEnricher = new TodoWeatherEnricher(
+                weatherClient, todoRepository, transactionTemplate, cacheManager, todoFeedHead, new SimpleMeterRegistry(),
+                true, 1, 2, 100, 3);
+    }
+
+    @Test
+    void process에서_배치의_일정들을_한_번의_날씨_조회로_보강하는가() {
+        // given
+        given(todoRepository.findPendingWeatherTodos(List.of(1L, 2L, 3L))).willReturn(List.of(
+                new PendingWeatherTodo(1L, TODAY), new PendingWeatherTodo(2L, TODAY), new PendingWeatherTodo(3L, TODAY)));
+        given(weatherClient.findWeather(TODAY.toLocalDate())).willReturn(Optional.of("Sunny"));
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        given(todoRepository.updatePendingWeather(List.of(1L, 2L, 3L), "Sunny")).willReturn(3);
+
+        // when
+        todoWeatherEnricher.process(List.of(
+                new PendingTodo(1L, 0), new PendingTodo(2L, 0), new PendingTodo(3L, 0)));
+
+        // then
+        verify(weatherClient, times(1)).findWeather(TODAY.toLocalDate());
+        verify(todoRepository, times(1)).updatePendingWeather(List.of(1L, 2L, 3L), "Sunny");
+    }
+
+    @Test
+    void process에서_며칠_대기한_일정은_오늘이_아니라_만든_날의_날씨로_채우는가() {
+        // given
+        LocalDateTime yesterday = TODAY.minusDays(1);
+        given(todoRepository.findPendingWeatherTodos(List.of(1L, 2L))).willReturn(List.of(
+                new PendingWeatherTodo(1L, yesterday), new PendingWeatherTodo(2L, TODAY)));
+        given(weatherClient.findWeather(yesterday.toLocalDate())).willReturn(Optional.of("Sunny"));
+        given(weatherClient.findWeather(TODAY.toLocalDate())).willReturn(Optional.of("Rainy"));
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        given(todoRepository.updatePendingWeather(List.of(1L), "Sunny")).willReturn(1);
+        given(todoRepository.updatePendingWeather(List.of(2L), "Rainy")).willReturn(1);
+
+        // when
+        todoWeatherEnricher.process(List.of(new PendingTodo(1L, 0), new PendingTodo(2L, 0)));
+
+        // then
+        verify(todoRepository, times(1)).updatePendingWeather(List.of(1L), "Sunny");
+        verify(todoRepository, times(1)).updatePendingWeather(List.of(2L), "Rainy");
+        verify(todoFeedHead, times(1)).updateWeatherAfterCommit(List.of(1L), "Sunny");
+        verify(todoFeedHead, times(1)).updateWeatherAfterCommit(List.of(2L), "Rainy");
+    }
+
+    @Test
+    void process에서_날씨를_채운_일정의_응답_캐시를_제거하는가() {
+        // given
+        Cache cache = cacheManager.getCache(CacheConfig.TODO_RESPONSES);
+        cache.put(1L, "cached");
+        cache.put(9L, "other");
+        given(todoRepository.findPendingWeatherTodos(List.of(1L))).willReturn(List.of(new PendingWeatherTodo(1L, TODAY)));
+        given(weatherClient.findWeather(TODAY.toLocalDate())).willReturn(Optional.of("Sunny"));
+        given(transactionTemplate.execute(any()))
+                .willAnswer(invocation -> invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        given(todoRepository.updatePendingWeather(List.of(1L), "Sunny")).willReturn(1);
+
+        // when
+        todoWeatherEnricher.process(List.of(new PendingTodo(1L, 0)));
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(9L)).isNotNull();
+    }
+
+    @Test
+    void process에서_날씨_조회에_실패하면_일정을_갱신하지_않는가() {
+        // given
+        given(todoRepository.findPendingWeatherTodos(List.of(1L))).willReturn(List.of(new PendingWeatherTodo(1L, TODAY)));
+        given(weatherClient.findWeather(TODAY.toLocalDate())).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+        // when
+        todoWeatherEnricher.process(List.of(new PendingTodo(1L, 0)));
+
+        // then
+        verify(todoRepository, never()).updatePendingWeather(anyList(), anyString());
+    }
+
+    @Test
+    void process에서_날씨_서비스_장애_중에는_대체_값을_저장하지_않는가() {
+        // given
+        given(todoRepository.findPendingWeatherTodos(List.of(1L))).willReturn(List.of(new PendingWeatherTodo(1L, TODAY)));
+        given(weatherClient.findWeather(TODAY.toLocalDate())).willReturn(Optional.empty());
+
+        // when
+        todoWeatherEnricher.process(List.of(new PendingTodo(1L, 0)));
+
+        // then
+        verify(todoRepository, never()).updatePendingWeather(anyList(), anyString());
+    }
+
+    @Test
+    void enqueueAfterCommit에서_같은_일정은_한_번만_쌓이고_큐_용량을_넘지_않는가() {
+        // when
+        todoWeatherEnricher.enqueueAfterCommit(1L);
+        todoWeatherEnricher.enqueueAfterCommit(1L);
+        todoWeatherEnricher.enqueueAfterCommit(2L);
+        todoWeatherEnricher.enqueueAfterCommit(3L);
+
+        // then
+        assertThat(todoWeatherEnricher.getBacklog()).isEqualTo(2);
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.expert.domain.user.service;
 
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -12,12 +13,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class UserAdminServiceTest {
 
     @Mock
     private UserService userService;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
     @InjectMocks
     private UserAdminService userAdminService;
 
@@ -36,5 +40,6 @@ public class UserAdminServiceTest {
 
         // then
         assertThat(user.getUserRole()).isEqualTo(userRole);
+        verify(tokenRevocationService).revokeAllForUser(userId);
     }
 }
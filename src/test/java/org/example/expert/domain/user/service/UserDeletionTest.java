@@ -0,0 +1,83 @@
+package org.example.expert.domain.user.service;
+
+import org.example.expert.config.config.PasswordEncoder;
+import org.example.expert.config.config.TokenDigest;
+import org.example.expert.domain.auth.repository.RefreshTokenRepository;
+import org.example.expert.domain.auth.service.RefreshTokenService;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.request.UserDeleteRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일정(댓글/담당자 포함)과 리프레시 토큰이 있는 사용자를 실제 DB에서 탈퇴시켜 외래 키 위반 없이 모두 지워지는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class UserDeletionTest {
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    void deleteUser에서_일정과_댓글이_있는_사용자를_지울_수_있는가() {
+        // given
+        User owner = userRepository.save(new User(UUID.randomUUID() + "@example.com", passwordEncoder.encode("password"), UserRole.USER));
+        User other = userRepository.save(new User(UUID.randomUUID() + "@example.com", "password", UserRole.USER));
+        String refreshToken = refreshTokenService.issue(owner);
+
+        // 탈퇴하는 사용자의 일정(작성자 담당자 포함)과 거기 달린 다른 사람의 댓글
+        Todo ownTodo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        Long ownManagerId = ownTodo.getManagers().get(0).getId();
+        Comment commentOnOwnTodo = commentRepository.save(new Comment("contents", other, ownTodo));
+        // 다른 사람 일정에 남긴 댓글과 담당자 지정
+        Todo otherTodo = todoRepository.save(new Todo("title", "contents", "Rainy", other));
+        Long otherManagerId = otherTodo.getManagers().get(0).getId();
+        Comment commentOnOtherTodo = commentRepository.save(new Comment("contents", owner, otherTodo));
+        Manager assigned = managerRepository.save(new Manager(owner, otherTodo));
+
+        // when
+        userService.deleteUser(owner.getId(), new UserDeleteRequest("password"));
+
+        // then
+        assertThat(userRepository.existsById(owner.getId())).isFalse();
+        assertThat(todoRepository.existsById(ownTodo.getId())).isFalse();
+        assertThat(managerRepository.existsById(ownManagerId)).isFalse();
+        assertThat(commentRepository.existsById(commentOnOwnTodo.getId())).isFalse();
+        assertThat(commentRepository.existsById(commentOnOtherTodo.getId())).isFalse();
+        assertThat(managerRepository.existsById(assigned.getId())).isFalse();
+        assertThat(refreshTokenRepository.findByTokenHashWithUser(TokenDigest.sha256(refreshToken))).isEmpty();
+
+        // 다른 사용자의 일정과 그 담당자는 그대로
+        assertThat(todoRepository.existsById(otherTodo.getId())).isTrue();
+        assertThat(managerRepository.existsById(otherManagerId)).isTrue();
+    }
+}
@@ -2,6 +2,11 @@ package org.example.expert.domain.user.service;
 
 import org.example.expert.config.config.PasswordEncoder;
 import org.example.expert.config.exception.custom.InvalidRequestException;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoFeedHead;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.request.UserDeleteRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
@@ -10,16 +15,19 @@ import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +37,14 @@ public class UserServiceTest {
     private UserRepository userRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+    @Mock
+    private TodoFeedHead todoFeedHead;
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
+    @Mock
+    private TodoRepository todoRepository;
     @InjectMocks
     private UserService userService;
 
@@ -60,6 +76,18 @@ public class UserServiceTest {
                 "User not found");
     }
 
+    @Test
+    void getUserETag에서_유저가_없으면_IRE를_던지는가() {
+        // given
+        long userId = 1L;
+        given(userRepository.findVersionById(userId)).willReturn(new ResourceVersion(null, 0L));
+
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> userService.getUserETag(userId),
+                "User not found");
+    }
+
     @Test
     void getUser에서_정상적으로_userId값으로_dto를_조회하는가() {
         // given
@@ -134,7 +162,9 @@ public class UserServiceTest {
         userService.changePassword(userId, dto);
 
         // then
-        assertThat(user.getPassword()).isEqualTo("encodedNewPassword");}
+        assertThat(user.getPassword()).isEqualTo("encodedNewPassword");
+        verify(tokenRevocationService).revokeAllForUser(userId);
+    }
 
     @Test
     void deleteUser에서_입력한_비밀번호와_기존비밀번호가_다를_경우_IRE예외를_던지는가() {
@@ -164,10 +194,16 @@ public class UserServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(passwordEncoder.matches(dto.getPassword(), user.getPassword())).willReturn(true);
 
+        given(todoRepository.findIdsByUserId(userId)).willReturn(List.of(10L, 11L));
+
         // when
         userService.deleteUser(userId, dto);
 
         // then
-        verify(userRepository).delete(user);
+        InOrder inOrder = inOrder(todoRepository, tokenRevocationService, userRepository);
+        inOrder.verify(todoRepository).deleteAllWithChildrenByUserId(userId);
+        inOrder.verify(tokenRevocationService).revokeAllForUser(userId);
+        inOrder.verify(userRepository).delete(user);
+        verify(todoSearchIndex).removeAllAfterCommit(List.of(10L, 11L));
     }
 }
@@ -0,0 +1,32 @@
+package org.example.expert.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Hibernate가 실제로 만든 SQL을 모아 두는 StatementInspector. 실행 계획을 확인하는 테스트에서
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} 속성으로 등록해 쓴다.
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.example.expert.support.CapturingStatementInspector";
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    // query가 실행되는 동안 만들어진 SQL
+    public static List<String> capture(Runnable query) {
+        STATEMENTS.clear();
+        query.run();
+        return new ArrayList<>(STATEMENTS);
+    }
+}
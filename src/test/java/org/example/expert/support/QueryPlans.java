@@ -0,0 +1,32 @@
+package org.example.expert.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+
+/**
+ * H2 실행 계획(EXPLAIN) 조회.
+ */
+public final class QueryPlans {
+
+    private QueryPlans() {
+    }
+
+    // H2는 파라미터 값과 관계없이 prepare 시점에 실행 계획을 정하므로 모두 null로 바인딩
+    public static String explain(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+            return statement;
+        }, resultSet -> {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+            return plan.toString();
+        });
+    }
+}